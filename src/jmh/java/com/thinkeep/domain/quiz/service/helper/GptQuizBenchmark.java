@@ -0,0 +1,66 @@
+package com.thinkeep.domain.quiz.service.helper;
+
+import com.thinkeep.domain.quiz.dto.QuestionSeed;
+import com.thinkeep.domain.quiz.dto.QuizResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GPT 퀴즈 생성 경로 중 OpenAI 호출을 뺀 나머지 비용
+ * createPrompt: 시드 -> 프롬프트 문자열 (캐시 키 계산에도 사용)
+ * parse: OpenAI chat completion 응답 -> QuizResponse (로그 출력 포함, 실제 동작 그대로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GptQuizBenchmark {
+
+    private static final String COMPLETION_RESPONSE = """
+            {
+              "id": "chatcmpl-bench",
+              "object": "chat.completion",
+              "model": "gpt-4o-mini",
+              "choices": [{
+                "index": 0,
+                "message": {
+                  "role": "assistant",
+                  "content": "```json\\n{\\n  \\"question\\": \\"지난 화요일에 함께 시간을 보낸 사람은 누구였나요?\\",\\n  \\"choices\\": [\\"민수\\", \\"지영\\", \\"철수\\"],\\n  \\"answer\\": \\"민수\\"\\n}\\n```"
+                },
+                "finish_reason": "stop"
+              }],
+              "usage": {"prompt_tokens": 210, "completion_tokens": 48, "total_tokens": 258}
+            }
+            """;
+
+    private GptPromptFactory promptFactory;
+    private GptQuizParser parser;
+    private QuestionSeed personSeed;
+    private QuestionSeed activitySeed;
+
+    @Setup
+    public void setUp() {
+        promptFactory = new GptPromptFactory();
+        parser = new GptQuizParser();
+        personSeed = new QuestionSeed("Q2", "오늘 누구와 시간을 보냈나요?", "민수", LocalDate.of(2025, 7, 15), 1L);
+        activitySeed = new QuestionSeed("Q4", "오늘 가장 기억에 남는 일은?",
+                "공원에서 오랜만에 친구를 만나 이야기를 나눈 일", LocalDate.of(2025, 7, 15), 2L);
+    }
+
+    @Benchmark
+    public String createPromptPerson() {
+        return promptFactory.createPrompt(personSeed);
+    }
+
+    @Benchmark
+    public String createPromptActivity() {
+        return promptFactory.createPrompt(activitySeed);
+    }
+
+    @Benchmark
+    public QuizResponse parse() throws IOException {
+        return parser.parse(COMPLETION_RESPONSE, personSeed);
+    }
+}
@@ -0,0 +1,88 @@
+package com.thinkeep.domain.record.entity;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 기록 목록 응답 변환 시 answers 파싱 비용 비교
+ * legacy: 호출마다 split/replaceAll로 다시 파싱 (convertToResponse 기준 3회)
+ * codec: RecordAnswers로 한 번만 디코딩 후 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordAnswersBenchmark {
+
+    @Param({"30", "365"})
+    private int recordCount;
+
+    private List<String> answersJson;
+
+    @Setup
+    public void setUp() {
+        answersJson = IntStream.range(0, recordCount)
+                .mapToObj(i -> RecordAnswers.encode(Map.of(
+                        "Q1", "오늘은 날씨가 맑아서 산책을 했어요 " + i,
+                        "Q2", "친구 민수",
+                        "Q3", "김치찌개와 계란말이",
+                        "Q4", "공원에서 오랜만에 친구를 만나 이야기를 나눈 일")))
+                .toList();
+    }
+
+    @Benchmark
+    public void legacyParsePerCall(Blackhole blackhole) {
+        for (String json : answersJson) {
+            blackhole.consume(legacyParse(json));          // answers
+            blackhole.consume(legacyCount(legacyParse(json))); // isComplete
+            blackhole.consume(legacyCount(legacyParse(json))); // getAnswerCount
+        }
+    }
+
+    @Benchmark
+    public void codecMemoized(Blackhole blackhole) {
+        for (String json : answersJson) {
+            Record record = Record.builder()
+                    .date(LocalDate.now())
+                    .emotion("HAPPY")
+                    .answers(json)
+                    .build();
+
+            blackhole.consume(record.getAnswersAsMap());
+            blackhole.consume(record.isComplete());
+            blackhole.consume(record.getAnswerCount());
+        }
+    }
+
+    // 변경 전 Record.getAnswersAsMap 파싱 로직
+    private static Map<String, String> legacyParse(String answers) {
+        Map<String, String> result = new HashMap<>();
+        String json = answers.trim();
+        if (json.startsWith("{") && json.endsWith("}")) {
+            json = json.substring(1, json.length() - 1);
+
+            for (String pair : json.split(",")) {
+                String[] keyValue = pair.split(":");
+                if (keyValue.length == 2) {
+                    result.put(keyValue[0].trim().replaceAll("\"", ""), keyValue[1].trim().replaceAll("\"", ""));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int legacyCount(Map<String, String> answers) {
+        int count = 0;
+        for (String questionId : new String[]{"Q1", "Q2", "Q3", "Q4"}) {
+            String value = answers.get(questionId);
+            if (value != null && !value.trim().isEmpty()) count++;
+        }
+        return count;
+    }
+}
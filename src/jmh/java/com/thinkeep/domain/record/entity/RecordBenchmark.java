@@ -0,0 +1,55 @@
+package com.thinkeep.domain.record.entity;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Record 답변 저장/조회 비용
+ * setAnswersFromMap: 기록 작성/수정 시 Map -> JSON 인코딩
+ * getAnswersAsMap: 조회 시 JSON -> Map (같은 인스턴스 재호출은 메모이즈)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecordBenchmark {
+
+    private Map<String, String> answersMap;
+    private String answersJson;
+    private Record record;
+
+    @Setup
+    public void setUp() {
+        answersMap = Map.of(
+                "Q1", "오늘은 날씨가 맑아서 산책을 했어요",
+                "Q2", "친구 민수",
+                "Q3", "김치찌개와 계란말이",
+                "Q4", "공원에서 오랜만에 친구를 만나 이야기를 나눈 일");
+        answersJson = RecordAnswers.encode(answersMap);
+        record = Record.builder()
+                .date(LocalDate.now())
+                .emotion("행복")
+                .build();
+    }
+
+    @Benchmark
+    public String setAnswersFromMap() {
+        record.setAnswersFromMap(answersMap);
+        return record.getAnswers();
+    }
+
+    // 새 문자열 인스턴스 -> 매번 실제 디코딩
+    @Benchmark
+    public Map<String, String> getAnswersAsMapCold() {
+        record.setAnswers(new String(answersJson));
+        return record.getAnswersAsMap();
+    }
+
+    // 같은 문자열 재조회 -> 메모이즈된 결과
+    @Benchmark
+    public Map<String, String> getAnswersAsMapWarm() {
+        return record.getAnswersAsMap();
+    }
+}
@@ -0,0 +1,42 @@
+package com.thinkeep.domain.record.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기록 저장/통계 경로의 문자열 분류 비용
+ * extractPersonCategory: Q2 답변 -> 인물 카테고리 (기록 작성/수정마다)
+ * convertKoreanToEnglish: 감정 한글 -> 영문 (월별 통계의 일자/감정별 항목마다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecordServiceBenchmark {
+
+    // 카테고리별로 매칭 위치가 다른 입력 (앞쪽 매칭 ~ 끝까지 미매칭)
+    private final String[] personAnswers = {
+            "엄마랑 시장에 다녀왔어요",
+            "대학 동기들과 저녁을 먹었어요",
+            "회사 동료와 점심 산책",
+            "오늘은 혼자 조용히 보냈어요",
+            "처음 만난 이웃 할머니"
+    };
+
+    private final String[] emotions = {"행복", "기쁨", "보통", "우울", "슬픔", "화남", " 행복 ", "모름"};
+
+    @Benchmark
+    public void extractPersonCategory(Blackhole blackhole) {
+        for (String answer : personAnswers) {
+            blackhole.consume(RecordService.extractPersonCategory(answer));
+        }
+    }
+
+    @Benchmark
+    public void convertKoreanToEnglish(Blackhole blackhole) {
+        for (String emotion : emotions) {
+            blackhole.consume(RecordService.convertKoreanToEnglish(emotion));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.thinkeep.global.jwt;
+
+import com.thinkeep.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 비용 (인증이 필요한 모든 요청의 필터 경로)
+ * validateTokenCached: 검증 캐시 적중 (같은 토큰 재사용 - 일반적인 경우)
+ * validateTokenUncached: 캐시 크기 0 -> 매번 서명 검증 + Claims 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET_KEY = "MyVerySecureJwtSecretKeyThatIsAtLeast32CharactersLongForSecurity123456789";
+    private static final long EXPIRATION_MS = 3_600_000L;
+
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedJwtUtil = new JwtUtil(EXPIRATION_MS, SECRET_KEY, 10_000);
+        uncachedJwtUtil = new JwtUtil(EXPIRATION_MS, SECRET_KEY, 0);
+        user = User.builder()
+                .userNo(42L)
+                .nickname("벤치마크")
+                .build();
+        token = cachedJwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedJwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachedJwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return uncachedJwtUtil.validateToken(token);
+    }
+}
@@ -3,6 +3,7 @@ package com.thinkeep.domain.Auth.controller;
 import com.thinkeep.domain.Auth.dto.KakaoLoginRequest;
 import com.thinkeep.domain.Auth.dto.LoginRequest;
 import com.thinkeep.domain.Auth.dto.LoginResponse;
+import com.thinkeep.domain.Auth.dto.RefreshTokenRequest;
 import com.thinkeep.domain.Auth.dto.UserInfo;
 import com.thinkeep.domain.Auth.service.AuthService;
 import com.thinkeep.domain.user.repository.UserRepository;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -53,17 +55,48 @@ public class AuthController {
         }
     }
 
+    /**
+     * 토큰 재발급
+     * POST /api/auth/refresh
+     */
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰과 새 리프레시 토큰을 발급합니다. 사용한 리프레시 토큰은 폐기됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재발급 성공"),
+            @ApiResponse(responseCode = "401", description = "리프레시 토큰 만료/재사용/위조 - 다시 로그인 필요")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody RefreshTokenRequest request) {
+        log.info("POST /api/auth/refresh - 토큰 재발급 요청");
+
+        LoginResponse response = authService.refresh(request.getRefreshToken());
+
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            log.warn("토큰 재발급 실패: {}", response.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+    }
+
     /**
      * 로그아웃
      * POST /api/auth/logout
      */
-    @Operation(summary = "로그아웃", description = "현재 세션을 종료합니다.")
+    @Operation(summary = "로그아웃", description = "현재 액세스 토큰을 폐기합니다. 리프레시 토큰을 함께 보내면 같이 폐기합니다.")
     @SecurityRequirement(name = "JWT")
     @PostMapping("/logout")
-    public ResponseEntity<LoginResponse> logout() {
+    public ResponseEntity<LoginResponse> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest request) {
         log.info("POST /api/auth/logout - 로그아웃 요청");
 
-        LoginResponse response = authService.logout();
+        // /api/auth/** 는 JWT 필터를 거치지 않으므로 헤더에서 직접 토큰 추출
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        String refreshToken = request != null ? request.getRefreshToken() : null;
+
+        LoginResponse response = authService.logout(accessToken, refreshToken);
         return ResponseEntity.ok(response);
     }
 
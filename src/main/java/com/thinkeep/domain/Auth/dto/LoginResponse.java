@@ -16,4 +16,6 @@ public class LoginResponse {
     private boolean isKakaoUser;   // 카카오 사용자 여부 (성공시에만)
     private String accessToken;    // JWT 토큰
     private Long expiresIn;        // 만료 시간 (초)
+    private String refreshToken;   // 리프레시 토큰 (1회용, 재발급 시 새 토큰으로 교체)
+    private Long refreshExpiresIn; // 리프레시 토큰 만료 시간 (초)
 }
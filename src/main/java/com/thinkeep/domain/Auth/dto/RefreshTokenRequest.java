@@ -0,0 +1,21 @@
+package com.thinkeep.domain.Auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "토큰 재발급 요청 DTO")
+public class RefreshTokenRequest {
+
+    @Schema(
+            description = "로그인 또는 이전 재발급 시 받은 리프레시 토큰 (1회용)",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private String refreshToken;
+}
@@ -0,0 +1,77 @@
+package com.thinkeep.domain.Auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 저장소 엔티티
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 저장
+ * 재발급 시 users 테이블을 읽지 않도록 액세스 토큰에 필요한 정보를 함께 보관
+ * 키(해시)를 직접 지정하므로 Persistable로 새 엔티티임을 알려 save 시 merge용 SELECT 생략
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user_no", columnList = "user_no"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken implements Persistable<String> {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;           // 토큰 SHA-256 (hex)
+
+    @Column(name = "user_no", nullable = false)
+    private Long userNo;
+
+    @Column(name = "nickname", nullable = false, length = 50)
+    private String nickname;
+
+    @Column(name = "is_kakao_user", nullable = false)
+    private boolean kakaoUser;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // DB에서 읽었거나 저장된 이후에는 false (DB 컬럼 아님)
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
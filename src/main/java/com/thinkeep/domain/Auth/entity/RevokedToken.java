@@ -0,0 +1,58 @@
+package com.thinkeep.domain.Auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기(로그아웃)된 액세스 토큰 목록
+ * 토큰 ID(jti)만 저장하고, 토큰 만료 시각이 지나면 정리
+ * 키(jti)를 직접 지정하므로 Persistable로 새 엔티티임을 알려 save 시 merge용 SELECT 생략
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken implements Persistable<String> {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;             // JWT jti (UUID)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;    // 원래 토큰 만료 시각
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    // DB에서 읽었거나 저장된 이후에는 false (DB 컬럼 아님)
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public String getId() {
+        return tokenId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+}
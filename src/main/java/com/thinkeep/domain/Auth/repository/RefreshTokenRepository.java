@@ -0,0 +1,41 @@
+package com.thinkeep.domain.Auth.repository;
+
+import com.thinkeep.domain.Auth.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 데이터 접근 인터페이스
+ * 키: 토큰 해시
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * 토큰 사용(삭제) 처리
+     * 동시에 같은 토큰으로 재발급을 요청해도 1건만 성공하도록 삭제된 행 수로 판단
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 사용자의 모든 토큰 삭제
+     * 회원 탈퇴 시 남은 리프레시 토큰으로 재발급하지 못하도록
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.userNo = :userNo")
+    int deleteByUserNo(@Param("userNo") Long userNo);
+
+    /**
+     * 만료된 토큰 정리
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
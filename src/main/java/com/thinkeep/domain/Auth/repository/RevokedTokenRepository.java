@@ -0,0 +1,36 @@
+package com.thinkeep.domain.Auth.repository;
+
+import com.thinkeep.domain.Auth.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기 토큰 데이터 접근 인터페이스
+ * 키: 토큰 ID(jti)
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 (기동 시 메모리 적재용)
+     */
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * 특정 시각 이후 폐기된 토큰 (다른 서버에서 폐기한 토큰 동기화용)
+     */
+    List<RevokedToken> findByRevokedAtAfter(LocalDateTime since);
+
+    /**
+     * 만료된 폐기 토큰 정리
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -3,6 +3,7 @@ package com.thinkeep.domain.Auth.service;
 import com.thinkeep.domain.Auth.dto.LoginRequest;
 import com.thinkeep.domain.Auth.dto.LoginResponse;
 import com.thinkeep.domain.Auth.dto.UserInfo;
+import com.thinkeep.domain.Auth.entity.RefreshToken;
 import com.thinkeep.domain.user.entity.User;
 import com.thinkeep.domain.user.repository.UserRepository;
 import com.thinkeep.global.jwt.JwtUtil;
@@ -21,10 +22,13 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * 일반 로그인 (닉네임 + 비밀번호)
      */
+    @Transactional
     public LoginResponse login(LoginRequest request) {
         log.info("일반 로그인 시도: nickname={}", request.getNickname());
 
@@ -59,8 +63,9 @@ public class AuthService {
                     .build();
         }
 
-        // 4. JWT 토큰 생성
+        // 4. JWT 토큰 + 리프레시 토큰 생성
         String accessToken = jwtUtil.generateToken(user);
+        String refreshToken = refreshTokenService.issue(user.getUserNo(), user.getNickname(), false);
 
         // 5. 로그인 성공
         log.info("일반 로그인 성공: userNo={}, nickname={}", user.getUserNo(), user.getNickname());
@@ -71,7 +76,9 @@ public class AuthService {
                 .nickname(user.getNickname())
                 .isKakaoUser(false)
                 .accessToken(accessToken)
-                .expiresIn(3600L)
+                .expiresIn(jwtUtil.getAccessTokenExpiresInSeconds())
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshTokenService.getExpiresInSeconds())
                 .build();
     }
 
@@ -97,6 +104,7 @@ public class AuthService {
             }
 
             String accessToken = jwtUtil.generateToken(user);
+            String refreshToken = refreshTokenService.issue(user.getUserNo(), user.getNickname(), true);
 
             log.info("기존 카카오 사용자 로그인 성공: userNo={}, nickname={}",
                     user.getUserNo(), user.getNickname());
@@ -107,7 +115,9 @@ public class AuthService {
                     .nickname(user.getNickname())
                     .isKakaoUser(true)
                     .accessToken(accessToken)
-                    .expiresIn(3600L)
+                    .expiresIn(jwtUtil.getAccessTokenExpiresInSeconds())
+                    .refreshToken(refreshToken)
+                    .refreshExpiresIn(refreshTokenService.getExpiresInSeconds())
                     .build();
         }
 
@@ -128,6 +138,7 @@ public class AuthService {
 
         User savedUser = userRepository.save(newUser);
         String accessToken = jwtUtil.generateToken(savedUser);
+        String refreshToken = refreshTokenService.issue(savedUser.getUserNo(), savedUser.getNickname(), true);
 
         log.info("카카오 자동 회원가입 및 로그인 성공: userNo={}, nickname={}",
                 savedUser.getUserNo(), savedUser.getNickname());
@@ -139,7 +150,42 @@ public class AuthService {
                 .nickname(savedUser.getNickname())
                 .isKakaoUser(true)
                 .accessToken(accessToken)
-                .expiresIn(3600L)
+                .expiresIn(jwtUtil.getAccessTokenExpiresInSeconds())
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshTokenService.getExpiresInSeconds())
+                .build();
+    }
+
+    /**
+     * 액세스 토큰 재발급 (리프레시 토큰 회전)
+     * 리프레시 토큰에 저장된 사용자 정보로 발급하므로 users 테이블 조회 없음
+     */
+    @Transactional
+    public LoginResponse refresh(String rawRefreshToken) {
+        Optional<RefreshToken> consumed = refreshTokenService.consume(rawRefreshToken);
+
+        if (consumed.isEmpty()) {
+            return LoginResponse.builder()
+                    .success(false)
+                    .message("유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요")
+                    .build();
+        }
+
+        RefreshToken token = consumed.get();
+        String accessToken = jwtUtil.generateToken(token.getUserNo(), token.getNickname(), token.isKakaoUser());
+        String refreshToken = refreshTokenService.issue(token.getUserNo(), token.getNickname(), token.isKakaoUser());
+
+        log.info("토큰 재발급 성공: userNo={}", token.getUserNo());
+        return LoginResponse.builder()
+                .success(true)
+                .message("토큰 재발급 성공")
+                .userNo(token.getUserNo())
+                .nickname(token.getNickname())
+                .isKakaoUser(token.isKakaoUser())
+                .accessToken(accessToken)
+                .expiresIn(jwtUtil.getAccessTokenExpiresInSeconds())
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshTokenService.getExpiresInSeconds())
                 .build();
     }
 
@@ -160,11 +206,22 @@ public class AuthService {
     }
 
     /**
-     * 로그아웃 처리 - 🟢 새로 추가된 부분
+     * 로그아웃 처리
+     * 현재 액세스 토큰을 폐기 목록에 올리고, 함께 전달된 리프레시 토큰도 폐기
      */
-    public LoginResponse logout() {
+    @Transactional
+    public LoginResponse logout(String accessToken, String refreshToken) {
         log.info("로그아웃 처리");
 
+        if (accessToken != null) {
+            jwtUtil.parseToken(accessToken).ifPresent(claims ->
+                    tokenRevocationService.revoke(claims.getTokenId(), claims.getExpiration()));
+        }
+
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.consume(refreshToken);
+        }
+
         return LoginResponse.builder()
                 .success(true)
                 .message("로그아웃 성공")
@@ -0,0 +1,161 @@
+package com.thinkeep.domain.Auth.service;
+
+import com.thinkeep.domain.Auth.entity.RefreshToken;
+import com.thinkeep.domain.Auth.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 리프레시 토큰 발급 / 회전(1회용) 관리
+ * DB(refresh_tokens)가 원본이고, 앞단에 크기 제한 메모리 캐시를 둬서 재발급 시 조회 쿼리를 생략
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshTokenExpirationTime;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // 토큰 해시 -> 저장된 토큰 정보
+    private final Map<String, RefreshToken> frontCache;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refreshTokenExpirationTime}") long refreshTokenExpirationTime,
+                               @Value("${app.auth.refresh-cache.max-size:10000}") int cacheMaxSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenExpirationTime = refreshTokenExpirationTime;
+
+        // 접근 순서 LinkedHashMap -> 가장 오래 사용되지 않은 항목부터 제거 (제거돼도 DB에서 다시 조회)
+        this.frontCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RefreshToken> eldest) {
+                return size() > cacheMaxSize;
+            }
+        });
+    }
+
+    /**
+     * 리프레시 토큰 발급
+     * @return 토큰 원문 (클라이언트에만 전달, 서버에는 해시만 저장)
+     */
+    @Transactional
+    public String issue(Long userNo, String nickname, boolean kakaoUser) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken refreshToken = RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .userNo(userNo)
+                .nickname(nickname)
+                .kakaoUser(kakaoUser)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshTokenExpirationTime)))
+                .build();
+
+        refreshTokenRepository.save(refreshToken);
+        frontCache.put(refreshToken.getTokenHash(), refreshToken);
+
+        log.debug("리프레시 토큰 발급: userNo={}", userNo);
+        return rawToken;
+    }
+
+    /**
+     * 리프레시 토큰 사용 (회전)
+     * 유효하면 토큰을 삭제하고 저장돼 있던 사용자 정보를 반환, 이미 사용했거나 만료/위조면 Optional.empty()
+     */
+    @Transactional
+    public Optional<RefreshToken> consume(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return Optional.empty();
+        }
+
+        String tokenHash = hash(rawToken);
+        RefreshToken stored = frontCache.remove(tokenHash);
+        if (stored == null) {
+            stored = refreshTokenRepository.findById(tokenHash).orElse(null);
+        }
+
+        if (stored == null) {
+            log.warn("리프레시 토큰 없음 (이미 사용했거나 위조)");
+            return Optional.empty();
+        }
+
+        // 삭제된 행이 있어야 사용 성공 (동시 요청/다른 서버에서 먼저 사용한 경우 0)
+        int deleted = refreshTokenRepository.deleteByTokenHash(tokenHash);
+        if (deleted == 0) {
+            log.warn("리프레시 토큰 이미 사용됨: userNo={}", stored.getUserNo());
+            return Optional.empty();
+        }
+
+        if (stored.isExpired(LocalDateTime.now())) {
+            log.warn("리프레시 토큰 만료: userNo={}", stored.getUserNo());
+            return Optional.empty();
+        }
+
+        return Optional.of(stored);
+    }
+
+    /**
+     * 사용자의 모든 리프레시 토큰 폐기 (DB + 메모리)
+     * 회원 탈퇴 후 남은 토큰으로 존재하지 않는 사용자의 액세스 토큰이 발급되지 않도록
+     */
+    @Transactional
+    public void revokeAllForUser(Long userNo) {
+        int deleted = refreshTokenRepository.deleteByUserNo(userNo);
+
+        synchronized (frontCache) {
+            frontCache.values().removeIf(token -> userNo.equals(token.getUserNo()));
+        }
+
+        log.info("사용자 리프레시 토큰 전체 폐기: userNo={}, {}건", userNo, deleted);
+    }
+
+    /**
+     * 리프레시 토큰 유효 기간 (초)
+     */
+    public long getExpiresInSeconds() {
+        return refreshTokenExpirationTime / 1000;
+    }
+
+    /**
+     * 만료된 리프레시 토큰 정리 (DB + 메모리)
+     */
+    @Scheduled(fixedDelayString = "${app.auth.refresh-token.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = refreshTokenRepository.deleteExpired(now);
+
+        synchronized (frontCache) {
+            frontCache.values().removeIf(token -> token.isExpired(now));
+        }
+
+        if (deleted > 0) {
+            log.info("만료 리프레시 토큰 정리: {}건", deleted);
+        }
+    }
+
+    // 저장 키: 토큰 원문 대신 SHA-256 해시
+    private String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
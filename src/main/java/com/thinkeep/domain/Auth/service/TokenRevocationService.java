@@ -0,0 +1,151 @@
+package com.thinkeep.domain.Auth.service;
+
+import com.thinkeep.domain.Auth.entity.RevokedToken;
+import com.thinkeep.domain.Auth.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액세스 토큰 폐기 목록 관리
+ * DB(revoked_tokens)가 원본, 메모리에 jti -> 만료 시각 사본과 Bloom filter를 둬서
+ * 인증 필터의 폐기 확인은 DB 조회 없이 처리 (대부분의 요청은 Bloom filter에서 바로 통과)
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedSize;
+
+    // jti -> 토큰 만료 시각
+    private final Map<String, LocalDateTime> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+
+    // 다른 서버에서 폐기한 토큰 동기화 기준 시각
+    private volatile LocalDateTime lastSyncedAt = LocalDateTime.now();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.auth.revocation.expected-size:100000}") int expectedSize) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedSize = expectedSize;
+        this.bloomFilter = new BloomFilter(expectedSize, FALSE_POSITIVE_RATE);
+        meterRegistry.gaugeMapSize("auth.revoked.tokens", List.of(), revoked);
+    }
+
+    /**
+     * 폐기 여부 확인 (DB 조회 없음)
+     * jti가 없는 예전 토큰은 폐기 대상이 아님
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃)
+     * 토큰 만료 시각까지만 보관
+     */
+    @Transactional
+    public void revoke(String tokenId, Date expiration) {
+        if (tokenId == null) {
+            log.warn("토큰 ID(jti)가 없는 토큰 - 폐기 생략");
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = expiration != null
+                ? LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault())
+                : now;
+        if (!expiresAt.isAfter(now)) {
+            return; // 이미 만료된 토큰은 필터에서 거부됨
+        }
+        if (isRevoked(tokenId)) {
+            return; // 같은 토큰으로 다시 로그아웃 -> 이미 저장됨 (persist라 중복 INSERT 방지)
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .revokedAt(now)
+                .build());
+        remember(tokenId, expiresAt);
+
+        log.info("액세스 토큰 폐기: tokenId={}, expiresAt={}", tokenId, expiresAt);
+    }
+
+    /**
+     * 기동 시 아직 유효한 폐기 목록을 메모리에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> tokens = revokedTokenRepository.findByExpiresAtAfter(now);
+        tokens.forEach(token -> remember(token.getTokenId(), token.getExpiresAt()));
+        lastSyncedAt = now;
+
+        log.info("폐기 토큰 목록 적재: {}건", tokens.size());
+    }
+
+    /**
+     * 다른 서버에서 폐기한 토큰 반영
+     */
+    @Scheduled(fixedDelayString = "${app.auth.revocation.sync-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void sync() {
+        // 서버 간 시계 차이를 고려해 조금 겹치게 조회 (중복 반영은 무해)
+        LocalDateTime since = lastSyncedAt.minusSeconds(5);
+        lastSyncedAt = LocalDateTime.now();
+
+        revokedTokenRepository.findByRevokedAtAfter(since).stream()
+                .filter(token -> !revoked.containsKey(token.getTokenId()))
+                .forEach(token -> remember(token.getTokenId(), token.getExpiresAt()));
+    }
+
+    /**
+     * 만료된 폐기 토큰 정리 (DB + 메모리)
+     * Bloom filter는 삭제가 안 되므로 남은 항목으로 새로 만들어서 교체
+     */
+    @Scheduled(fixedDelayString = "${app.auth.revocation.purge-interval-ms:600000}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+
+        synchronized (this) {
+            revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedSize, revoked.size() * 2), FALSE_POSITIVE_RATE);
+            revoked.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        }
+
+        if (deleted > 0) {
+            log.info("만료 폐기 토큰 정리: DB {}건, 메모리 잔여 {}건", deleted, revoked.size());
+        }
+    }
+
+    // 사본을 먼저 넣고 Bloom filter에 추가 (재구성과 겹치지 않도록 잠금)
+    private synchronized void remember(String tokenId, LocalDateTime expiresAt) {
+        revoked.put(tokenId, expiresAt);
+        bloomFilter.put(tokenId);
+    }
+}
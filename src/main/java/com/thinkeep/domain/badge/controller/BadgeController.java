@@ -2,6 +2,7 @@ package com.thinkeep.domain.badge.controller;
 
 import com.thinkeep.domain.badge.dto.BadgeRequest;
 import com.thinkeep.domain.badge.dto.BadgeResponse;
+import com.thinkeep.domain.badge.service.BadgeCatalog;
 import com.thinkeep.domain.badge.service.BadgeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,9 +10,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -21,17 +26,30 @@ import java.util.List;
 @SecurityRequirement(name = "JWT")
 public class BadgeController {
 
+    private static final Duration CATALOG_MAX_AGE = Duration.ofSeconds(60);
+
     private final BadgeService badgeService;
 
     /**
      * 뱃지 전체 조회
      * GET /api/badges
      */
-    @Operation(summary = "뱃지 전체 조회", description = "모든 뱃지 목록을 조회합니다.")
+    @Operation(summary = "뱃지 전체 조회", description = "모든 뱃지 목록을 조회합니다. ETag가 같으면 304를 반환합니다.")
     @GetMapping
-    public ResponseEntity<List<BadgeResponse>> getAllBadges() {
-        List<BadgeResponse> response = badgeService.getAllBadges();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<BadgeResponse>> getAllBadges(WebRequest webRequest) {
+        BadgeCatalog.Snapshot snapshot = badgeService.getCatalogSnapshot();
+
+        // If-None-Match가 현재 카탈로그와 같으면 본문 없이 304
+        if (webRequest.checkNotModified(snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.maxAge(CATALOG_MAX_AGE).cachePrivate())
+                .body(snapshot.getBadges());
     }
 
     /**
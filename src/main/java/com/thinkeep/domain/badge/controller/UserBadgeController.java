@@ -8,9 +8,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -40,4 +42,21 @@ public class UserBadgeController {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 사용자가 가장 최근에 받은 뱃지 조회
+     * GET /api/user-badges/{userNo}/latest?since={일기 작성 시각}
+     * 뱃지는 일기 작성 후 비동기로 지급되므로 작성 응답 대신 이 API로 확인
+     */
+    @Operation(summary = "최근 획득 뱃지 조회", description = "사용자가 가장 최근에 받은 뱃지를 조회합니다. since를 주면 그 이후에 받은 뱃지만 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "최근 뱃지 조회 성공")
+    @ApiResponse(responseCode = "204", description = "해당 조건의 뱃지 없음")
+    @GetMapping("/{userNo}/latest")
+    public ResponseEntity<UserBadgeResponse> getLatestBadge(
+            @PathVariable Long userNo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return userBadgeService.getLatestBadge(userNo, since)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+}
@@ -9,6 +9,8 @@ import lombok.Setter;
 public class BadgeRequest {
     private String name;
     private String description;
+    // 지급 조건 예: {"metric": "STREAK", "op": ">=", "value": 7}
+    // metric: STREAK, RECORD_COUNT, QUIZ_CORRECT_COUNT, QUIZ_ACCURACY(+ minSamples) / op: >=, >, ==
     private String conditionJson;
 
     public Badge toEntity() {
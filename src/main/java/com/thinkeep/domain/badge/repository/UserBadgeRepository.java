@@ -3,6 +3,12 @@ package com.thinkeep.domain.badge.repository;
 import com.thinkeep.domain.badge.entity.UserBadge;
 import com.thinkeep.domain.badge.entity.UserBadgeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface UserBadgeRepository extends JpaRepository<UserBadge, UserBadgeId> {
 
@@ -12,4 +18,17 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, UserBadgeI
      * @return 존재 여부
      */
     boolean existsById(UserBadgeId id);
+
+    /**
+     * 사용자가 가장 최근에 받은 뱃지
+     * 일기 작성 후 비동기로 지급된 새 뱃지 확인용
+     */
+    Optional<UserBadge> findTopByIdUserNoOrderByAwardedAtDesc(Long userNo);
+
+    /**
+     * 후보 뱃지 중 사용자가 이미 보유한 뱃지 ID
+     * 뱃지 규칙 평가 후 중복 지급 방지용 (후보 수와 관계없이 1회 조회)
+     */
+    @Query("SELECT ub.id.badgeId FROM UserBadge ub WHERE ub.id.userNo = :userNo AND ub.id.badgeId IN :badgeIds")
+    List<Long> findOwnedBadgeIds(@Param("userNo") Long userNo, @Param("badgeIds") Collection<Long> badgeIds);
 }
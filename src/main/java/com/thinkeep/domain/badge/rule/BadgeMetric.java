@@ -0,0 +1,12 @@
+package com.thinkeep.domain.badge.rule;
+
+/**
+ * 뱃지 조건이 참조하는 지표
+ * 지표 값이 바뀌는 시점에 해당 지표의 규칙만 평가
+ */
+public enum BadgeMetric {
+    STREAK,              // 연속 기록 일수
+    RECORD_COUNT,        // 누적 기록 수
+    QUIZ_CORRECT_COUNT,  // 누적 정답 퀴즈 수
+    QUIZ_ACCURACY        // 퀴즈 정답률 (0~100, minSamples로 최소 풀이 수 지정)
+}
@@ -0,0 +1,58 @@
+package com.thinkeep.domain.badge.rule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * conditionJson 하나를 컴파일한 불변 규칙
+ * 예: {"metric": "STREAK", "op": ">=", "value": 7}
+ *     {"metric": "QUIZ_ACCURACY", "op": ">=", "value": 80, "minSamples": 20}
+ */
+@Getter
+@RequiredArgsConstructor
+public class BadgeRule {
+
+    private final Long badgeId;
+    private final BadgeMetric metric;
+    private final Operator operator;
+    private final double threshold;
+    private final long minSamples;
+
+    /**
+     * @param value   현재 지표 값
+     * @param samples 지표 계산에 사용된 표본 수 (정답률의 경우 푼 퀴즈 수)
+     */
+    public boolean matches(double value, long samples) {
+        return samples >= minSamples && operator.test(value, threshold);
+    }
+
+    public enum Operator {
+        GTE(">="), GT(">"), EQ("==");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        boolean test(double value, double threshold) {
+            return switch (this) {
+                case GTE -> value >= threshold;
+                case GT -> value > threshold;
+                case EQ -> value == threshold;
+            };
+        }
+
+        public static Operator from(String symbol) {
+            if (symbol == null) {
+                return GTE;
+            }
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol.trim()) || operator.name().equalsIgnoreCase(symbol.trim())) {
+                    return operator;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 비교 연산자: " + symbol);
+        }
+    }
+}
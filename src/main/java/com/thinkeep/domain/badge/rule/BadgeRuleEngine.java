@@ -0,0 +1,133 @@
+package com.thinkeep.domain.badge.rule;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thinkeep.domain.badge.dto.BadgeResponse;
+import com.thinkeep.domain.badge.service.BadgeCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Badge.conditionJson 규칙 엔진
+ * 카탈로그 스냅샷의 뱃지 조건을 한 번 컴파일해서 지표별로 색인해두고 (카탈로그가 바뀌면 재컴파일),
+ * 지표 값이 바뀔 때 해당 지표 규칙만 메모리에서 평가 (뱃지별 DB 조회 없음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BadgeRuleEngine {
+
+    // conditionJson에 연속 기록 규칙이 없을 때 사용하는 기본 규칙 (streak 일수 -> badgeId)
+    private static final Map<Integer, Long> DEFAULT_STREAK_BADGES = Map.of(
+            3, 1L,
+            7, 2L,
+            14, 3L,
+            30, 4L
+    );
+
+    private final BadgeCatalog badgeCatalog;
+    private final ObjectMapper objectMapper;
+
+    // 컴파일에 사용한 카탈로그 버전과 결과
+    private final AtomicReference<CompiledRules> compiledRules = new AtomicReference<>();
+
+    /**
+     * 지표 값에 해당하는 뱃지 ID 목록 (보유 여부는 확인하지 않음)
+     */
+    public List<Long> evaluate(BadgeMetric metric, double value, long samples) {
+        List<Long> matched = new ArrayList<>();
+        for (BadgeRule rule : rules().getOrDefault(metric, List.of())) {
+            if (rule.matches(value, samples)) {
+                matched.add(rule.getBadgeId());
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 해당 지표를 참조하는 규칙이 있는지 (없으면 지표 계산 쿼리 생략)
+     */
+    public boolean hasRules(BadgeMetric metric) {
+        return !rules().getOrDefault(metric, List.of()).isEmpty();
+    }
+
+    // 카탈로그 스냅샷이 바뀐 경우에만 다시 컴파일
+    private Map<BadgeMetric, List<BadgeRule>> rules() {
+        BadgeCatalog.Snapshot snapshot = badgeCatalog.currentSnapshot();
+        CompiledRules compiled = compiledRules.get();
+        if (compiled == null || compiled.version() != snapshot.getVersion()) {
+            compiled = new CompiledRules(snapshot.getVersion(), compile(snapshot.getBadges()));
+            compiledRules.set(compiled);
+        }
+        return compiled.rules();
+    }
+
+    private record CompiledRules(long version, Map<BadgeMetric, List<BadgeRule>> rules) {
+    }
+
+    Map<BadgeMetric, List<BadgeRule>> compile(List<BadgeResponse> badges) {
+        Map<BadgeMetric, List<BadgeRule>> index = new EnumMap<>(BadgeMetric.class);
+
+        for (BadgeResponse badge : badges) {
+            parse(badge).ifPresent(rule ->
+                    index.computeIfAbsent(rule.getMetric(), metric -> new ArrayList<>()).add(rule));
+        }
+
+        if (!index.containsKey(BadgeMetric.STREAK)) {
+            Set<Long> badgeIds = new HashSet<>();
+            badges.forEach(badge -> badgeIds.add(badge.getBadgeId()));
+
+            // 카탈로그에 실제 존재하는 기본 뱃지에만 적용
+            List<BadgeRule> defaults = new ArrayList<>();
+            DEFAULT_STREAK_BADGES.forEach((days, badgeId) -> {
+                if (badgeIds.contains(badgeId)) {
+                    defaults.add(new BadgeRule(badgeId, BadgeMetric.STREAK, BadgeRule.Operator.EQ, days, 0));
+                }
+            });
+            if (!defaults.isEmpty()) {
+                index.put(BadgeMetric.STREAK, defaults);
+            }
+        }
+
+        index.replaceAll((metric, list) -> List.copyOf(list));
+        log.info("🏅 뱃지 규칙 컴파일 완료: 뱃지 {}개, 지표별 규칙 {}", badges.size(), summarize(index));
+        return Collections.unmodifiableMap(index);
+    }
+
+    private Optional<BadgeRule> parse(BadgeResponse badge) {
+        String conditionJson = badge.getConditionJson();
+        if (conditionJson == null || conditionJson.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonNode condition = objectMapper.readTree(conditionJson);
+            if (condition == null || !condition.hasNonNull("metric") || !condition.hasNonNull("value")) {
+                log.debug("뱃지 조건 형식 아님 (무시): badgeId={}, condition={}", badge.getBadgeId(), conditionJson);
+                return Optional.empty();
+            }
+
+            return Optional.of(new BadgeRule(
+                    badge.getBadgeId(),
+                    BadgeMetric.valueOf(condition.get("metric").asText().trim().toUpperCase()),
+                    BadgeRule.Operator.from(condition.path("op").asText(null)),
+                    condition.get("value").asDouble(),
+                    condition.path("minSamples").asLong(0)
+            ));
+        } catch (Exception e) {
+            log.warn("뱃지 조건 파싱 실패 (무시): badgeId={}, condition={}, error={}",
+                    badge.getBadgeId(), conditionJson, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Map<BadgeMetric, Integer> summarize(Map<BadgeMetric, List<BadgeRule>> index) {
+        Map<BadgeMetric, Integer> summary = new EnumMap<>(BadgeMetric.class);
+        index.forEach((metric, list) -> summary.put(metric, list.size()));
+        return summary;
+    }
+}
@@ -0,0 +1,87 @@
+package com.thinkeep.domain.badge.service;
+
+import com.thinkeep.domain.badge.dto.UserBadgeResponse;
+import com.thinkeep.domain.badge.entity.UserBadge;
+import com.thinkeep.domain.badge.entity.UserBadgeId;
+import com.thinkeep.domain.badge.repository.BadgeRepository;
+import com.thinkeep.domain.badge.repository.UserBadgeRepository;
+import com.thinkeep.domain.badge.rule.BadgeMetric;
+import com.thinkeep.domain.badge.rule.BadgeRuleEngine;
+import com.thinkeep.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 지표 변경 시 뱃지 규칙 평가 및 지급
+ * 규칙 평가는 메모리에서, DB는 보유 뱃지 확인 1회 + 신규 지급 INSERT만 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BadgeAwardService {
+
+    private final BadgeRuleEngine badgeRuleEngine;
+    private final UserBadgeRepository userBadgeRepository;
+    private final UserRepository userRepository;
+    private final BadgeRepository badgeRepository;
+
+    /**
+     * 지표 값으로 규칙을 평가해 아직 없는 뱃지 지급
+     * @return 새로 지급된 뱃지 목록
+     */
+    @Transactional
+    public List<UserBadgeResponse> award(Long userNo, BadgeMetric metric, double value, long samples) {
+        List<Long> candidates = badgeRuleEngine.evaluate(metric, value, samples);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> owned = new HashSet<>(userBadgeRepository.findOwnedBadgeIds(userNo, candidates));
+        LocalDateTime now = LocalDateTime.now();
+        List<UserBadgeResponse> awarded = new ArrayList<>();
+
+        for (Long badgeId : candidates) {
+            if (owned.contains(badgeId)) {
+                continue; // 이미 받은 뱃지
+            }
+
+            UserBadge userBadge = new UserBadge(
+                    new UserBadgeId(userNo, badgeId),
+                    userRepository.getReferenceById(userNo),
+                    badgeRepository.getReferenceById(badgeId),
+                    now
+            );
+            userBadgeRepository.save(userBadge);
+
+            log.info("🏅 뱃지 지급: userNo={}, badgeId={}, metric={}, value={}", userNo, badgeId, metric, value);
+            awarded.add(UserBadgeResponse.builder()
+                    .userNo(userNo)
+                    .badgeId(badgeId)
+                    .awardedAt(now)
+                    .build());
+        }
+
+        return awarded;
+    }
+
+    /**
+     * 누적 값 지표 평가 (해당 지표 규칙이 없으면 지표 계산 쿼리 자체를 생략)
+     */
+    @Transactional
+    public List<UserBadgeResponse> awardIfRulesExist(Long userNo, BadgeMetric metric, LongSupplier value) {
+        if (!badgeRuleEngine.hasRules(metric)) {
+            return List.of();
+        }
+        long current = value.getAsLong();
+        return award(userNo, metric, current, current);
+    }
+}
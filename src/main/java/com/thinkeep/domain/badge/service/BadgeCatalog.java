@@ -0,0 +1,151 @@
+package com.thinkeep.domain.badge.service;
+
+import com.thinkeep.domain.badge.dto.BadgeResponse;
+import com.thinkeep.domain.badge.repository.BadgeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 뱃지 카탈로그 메모리 캐시
+ * 전체 뱃지를 불변 스냅샷으로 들고 있다가 뱃지 추가/수정/삭제 커밋 후 통째로 교체
+ * (조회 경로에서는 DB를 타지 않음)
+ */
+@Component
+@Slf4j
+public class BadgeCatalog {
+
+    private final BadgeRepository badgeRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public BadgeCatalog(BadgeRepository badgeRepository, MeterRegistry meterRegistry) {
+        this.badgeRepository = badgeRepository;
+        this.hits = meterRegistry.counter("badge.catalog.requests", "result", "hit");
+        this.misses = meterRegistry.counter("badge.catalog.requests", "result", "miss");
+        meterRegistry.gauge("badge.catalog.size", this, catalog -> {
+            Snapshot current = catalog.snapshot.get();
+            return current != null ? current.getBadges().size() : 0;
+        });
+    }
+
+    /**
+     * 현재 스냅샷 (처음 호출 시 DB에서 적재)
+     * 카탈로그 조회 요청용 -> hit/miss 카운트
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+
+        misses.increment();
+        return loadIfAbsent();
+    }
+
+    /**
+     * 현재 스냅샷 (카운트 없음)
+     * 뱃지 규칙 평가 등 내부 사용 -> 조회 요청 hit 비율을 부풀리지 않도록
+     */
+    public Snapshot currentSnapshot() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : loadIfAbsent();
+    }
+
+    private Snapshot loadIfAbsent() {
+        synchronized (this) {
+            Snapshot current = snapshot.get();
+            if (current == null) {
+                current = load();
+                snapshot.set(current);
+            }
+            return current;
+        }
+    }
+
+    public List<BadgeResponse> getAll() {
+        return snapshot().getBadges();
+    }
+
+    public Optional<BadgeResponse> find(Long badgeId) {
+        return Optional.ofNullable(snapshot().getById().get(badgeId));
+    }
+
+    /**
+     * 뱃지 CRUD 트랜잭션 커밋 후 스냅샷 교체
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBadgeChanged(BadgeChangedEvent event) {
+        refresh();
+    }
+
+    public void refresh() {
+        synchronized (this) {
+            Snapshot refreshed = load();
+            snapshot.set(refreshed);
+            log.info("🏅 뱃지 카탈로그 갱신: version={}, 뱃지 {}개", refreshed.getVersion(), refreshed.getBadges().size());
+        }
+    }
+
+    private Snapshot load() {
+        List<BadgeResponse> badges = badgeRepository.findAll().stream()
+                .map(BadgeResponse::fromEntity)
+                .sorted(Comparator.comparing(BadgeResponse::getBadgeId))
+                .toList();
+        return new Snapshot(versionSequence.incrementAndGet(), badges);
+    }
+
+    /**
+     * 뱃지 추가/수정/삭제 알림 이벤트
+     */
+    public static class BadgeChangedEvent {
+    }
+
+    /**
+     * 불변 카탈로그 스냅샷
+     * etag는 내용 기반이라 서버 인스턴스가 달라도 같은 카탈로그면 같은 값
+     */
+    @Getter
+    public static class Snapshot {
+
+        private final long version;
+        private final List<BadgeResponse> badges;
+        private final Map<Long, BadgeResponse> byId;
+        private final String etag;
+
+        Snapshot(long version, List<BadgeResponse> badges) {
+            this.version = version;
+            this.badges = badges;
+            this.byId = Collections.unmodifiableMap(badges.stream()
+                    .collect(Collectors.toMap(BadgeResponse::getBadgeId, Function.identity())));
+            this.etag = "\"" + digest(badges) + "\"";
+        }
+
+        private static String digest(List<BadgeResponse> badges) {
+            StringBuilder content = new StringBuilder();
+            for (BadgeResponse badge : badges) {
+                content.append(badge.getBadgeId()).append('\u0000')
+                        .append(badge.getName()).append('\u0000')
+                        .append(badge.getDescription()).append('\u0000')
+                        .append(badge.getConditionJson()).append('\u0001');
+            }
+            return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
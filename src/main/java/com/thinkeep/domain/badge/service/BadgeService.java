@@ -7,10 +7,10 @@ import com.thinkeep.domain.badge.repository.BadgeRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 뱃지 관련 서비스 로직 처리
@@ -22,31 +22,38 @@ import java.util.stream.Collectors;
 public class BadgeService {
 
     private final BadgeRepository badgeRepository;
+    private final BadgeCatalog badgeCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 모든 뱃지 목록 조회
+     * 모든 뱃지 목록 조회 (카탈로그 캐시)
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<BadgeResponse> getAllBadges() {
-        log.info("뱃지 전체 목록 조회 시작");
-        List<BadgeResponse> responseList = badgeRepository.findAll().stream()
-                .map(BadgeResponse::fromEntity)
-                .collect(Collectors.toList());
-        log.info("뱃지 전체 목록 조회 완료: 총 {}개", responseList.size());
+        List<BadgeResponse> responseList = badgeCatalog.getAll();
+        log.debug("뱃지 전체 목록 조회: 총 {}개", responseList.size());
         return responseList;
     }
 
     /**
-     * 특정 뱃지 조회
+     * 현재 카탈로그 스냅샷 (목록 + ETag)
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public BadgeCatalog.Snapshot getCatalogSnapshot() {
+        return badgeCatalog.snapshot();
+    }
+
+    /**
+     * 특정 뱃지 조회 (카탈로그 캐시)
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public BadgeResponse getBadge(Long badgeId) {
         log.info("뱃지 조회 요청: badgeId={}", badgeId);
-        Badge badge = badgeRepository.findById(badgeId)
+        return badgeCatalog.find(badgeId)
                 .orElseThrow(() -> {
                     log.warn("뱃지 조회 실패: 존재하지 않는 badgeId={}", badgeId);
                     return new IllegalArgumentException("존재하지 않는 뱃지입니다: " + badgeId);
                 });
-        log.info("뱃지 조회 성공: badgeId={}", badgeId);
-        return BadgeResponse.fromEntity(badge);
     }
 
     /**
@@ -63,6 +70,7 @@ public class BadgeService {
         }
 
         Badge badge = badgeRepository.save(request.toEntity());
+        eventPublisher.publishEvent(new BadgeCatalog.BadgeChangedEvent()); // 커밋 후 카탈로그 교체
         log.info("뱃지 등록 완료: badgeId={}", badge.getBadgeId());
         return BadgeResponse.fromEntity(badge);
     }
@@ -88,6 +96,7 @@ public class BadgeService {
         }
 
         badge.update(request.getName(), request.getDescription(), request.getConditionJson());
+        eventPublisher.publishEvent(new BadgeCatalog.BadgeChangedEvent()); // 커밋 후 카탈로그 교체
         log.info("뱃지 수정 완료: badgeId={}", badge.getBadgeId());
         return BadgeResponse.fromEntity(badge);
     }
@@ -105,6 +114,7 @@ public class BadgeService {
         }
 
         badgeRepository.deleteById(badgeId);
+        eventPublisher.publishEvent(new BadgeCatalog.BadgeChangedEvent()); // 커밋 후 카탈로그 교체
         log.info("뱃지 삭제 완료: badgeId={}", badgeId);
     }
 
@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -74,6 +75,19 @@ public class UserBadgeService {
                 .build();
     }
 
-
+    /**
+     * 사용자가 가장 최근에 받은 뱃지 조회
+     * since가 주어지면 그 이후에 받은 뱃지만 반환 (일기 작성 후 새 뱃지 확인용)
+     */
+    public Optional<UserBadgeResponse> getLatestBadge(Long userNo, LocalDateTime since) {
+        return userBadgeRepository.findTopByIdUserNoOrderByAwardedAtDesc(userNo)
+                .filter(userBadge -> since == null
+                        || (userBadge.getAwardedAt() != null && userBadge.getAwardedAt().isAfter(since)))
+                .map(userBadge -> UserBadgeResponse.builder()
+                        .userNo(userNo)
+                        .badgeId(userBadge.getId().getBadgeId())
+                        .awardedAt(userBadge.getAwardedAt())
+                        .build());
+    }
 }
 
@@ -0,0 +1,76 @@
+package com.thinkeep.domain.home.controller;
+
+import com.thinkeep.domain.home.dto.HomeResponse;
+import com.thinkeep.domain.home.service.HomeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/home")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "홈", description = "홈 화면 집계 API")
+@SecurityRequirement(name = "JWT")
+public class HomeController {
+
+    private final HomeService homeService;
+
+    /**
+     * 홈 화면 데이터 한 번에 조회
+     * GET /api/home
+     * 오늘 기록 상태 / streak / 스킵 상태 / 퀴즈 결과 / 최근 뱃지를 병렬 조회 (앱 실행 시 호출 4~5회 -> 1회)
+     */
+    @Operation(
+            summary = "홈 화면 조회",
+            description = "오늘 기록 상태, 연속 기록 수, 오늘 스킵 상태, 오늘 퀴즈 결과, 최근 획득 뱃지를 한 번에 조회합니다. 조회에 실패한 항목은 null이며 failedSections에 표시됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "홈 화면 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "사용자 정보 누락")
+    })
+    @GetMapping
+    public ResponseEntity<?> getHome(
+            Authentication authentication,
+            @Parameter(description = "사용자 번호 (JWT 비활성화 시 필수)") @RequestParam(required = false) Long userNo) {
+
+        log.info("GET /api/home - 홈 화면 조회");
+
+        try {
+            Long targetUserNo = extractUserNo(authentication, userNo);
+            HomeResponse response = homeService.getHome(targetUserNo);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("홈 화면 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * JWT 인증 활성/비활성 모드에 따라 userNo 추출
+     * - JWT ON: authentication에서 추출
+     * - JWT OFF: userNo 파라미터
+     */
+    private Long extractUserNo(Authentication authentication, Long userNo) {
+        if (authentication != null) {
+            try {
+                return (Long) authentication.getPrincipal();
+            } catch (Exception e) {
+                throw new IllegalArgumentException("인증 정보가 올바르지 않습니다");
+            }
+        } else {
+            if (userNo == null) {
+                throw new IllegalArgumentException("userNo 파라미터가 필요합니다 (JWT OFF)");
+            }
+            return userNo;
+        }
+    }
+}
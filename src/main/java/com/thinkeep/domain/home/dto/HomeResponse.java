@@ -0,0 +1,34 @@
+package com.thinkeep.domain.home.dto;
+
+import com.thinkeep.domain.badge.dto.UserBadgeResponse;
+import com.thinkeep.domain.quiz.dto.QuizResultSummary;
+import com.thinkeep.domain.quiz.dto.SkipStatusResponse;
+import com.thinkeep.domain.record.dto.TodayRecordStatus;
+import com.thinkeep.domain.user.dto.StreakCountResponse;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 홈 화면 집계 응답
+ * 각 항목은 조회 실패/시간 초과 시 null, 실패한 항목 이름은 failedSections에 담김
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HomeResponse {
+
+    private Long userNo;
+    private LocalDate date;
+
+    private TodayRecordStatus todayRecord;     // 오늘 기록 상태
+    private StreakCountResponse streak;        // 연속 기록 수
+    private SkipStatusResponse skipStatus;     // 오늘 퀴즈 스킵 상태
+    private QuizResultSummary quizResult;      // 오늘 퀴즈 결과 요약
+    private UserBadgeResponse latestBadge;     // 최근 획득 뱃지 (없으면 null)
+
+    private List<String> failedSections;       // 조회에 실패한 항목
+}
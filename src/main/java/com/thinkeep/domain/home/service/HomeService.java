@@ -0,0 +1,111 @@
+package com.thinkeep.domain.home.service;
+
+import com.thinkeep.domain.badge.dto.UserBadgeResponse;
+import com.thinkeep.domain.badge.service.UserBadgeService;
+import com.thinkeep.domain.home.dto.HomeResponse;
+import com.thinkeep.domain.quiz.dto.QuizResultSummary;
+import com.thinkeep.domain.quiz.dto.SkipStatusResponse;
+import com.thinkeep.domain.quiz.service.QuizService;
+import com.thinkeep.domain.record.dto.TodayRecordStatus;
+import com.thinkeep.domain.record.service.RecordService;
+import com.thinkeep.domain.user.dto.StreakCountResponse;
+import com.thinkeep.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 홈 화면 집계 서비스
+ * 오늘 기록 상태 / streak / 스킵 상태 / 퀴즈 결과 / 최근 뱃지를 홈 전용 스레드 풀에서 동시에 조회해 한 번에 반환
+ * 각 조회는 제한 시간이 걸린 읽기 트랜잭션 안에서 실행 -> 쿼리 타임아웃으로 DB 커넥션 점유 시간도 제한
+ * 실패하거나 시간 초과된 항목만 null로 비움
+ */
+@Service
+@Slf4j
+public class HomeService {
+
+    private final RecordService recordService;
+    private final QuizService quizService;
+    private final UserBadgeService userBadgeService;
+    private final UserRepository userRepository;
+    private final TaskExecutor homeExecutor;
+    private final TransactionTemplate readTransaction;
+    private final long timeoutMillis;
+
+    public HomeService(RecordService recordService,
+                       QuizService quizService,
+                       UserBadgeService userBadgeService,
+                       UserRepository userRepository,
+                       @Qualifier("homeExecutor") TaskExecutor homeExecutor,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.home.timeout-ms:3000}") long timeoutMillis) {
+        this.recordService = recordService;
+        this.quizService = quizService;
+        this.userBadgeService = userBadgeService;
+        this.userRepository = userRepository;
+        this.homeExecutor = homeExecutor;
+        this.timeoutMillis = timeoutMillis;
+
+        // 각 서비스의 @Transactional(readOnly)은 이 트랜잭션에 참여 -> 트랜잭션 제한 시간이 JPA 쿼리 타임아웃으로 적용됨
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setTimeout((int) Math.max(1, (timeoutMillis + 999) / 1000));
+    }
+
+    public HomeResponse getHome(Long userNo) {
+        log.info("홈 화면 조회: userNo={}", userNo);
+
+        List<String> failedSections = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<TodayRecordStatus> todayRecord = section("todayRecord", failedSections,
+                () -> recordService.getTodayRecordStatus(userNo));
+        CompletableFuture<StreakCountResponse> streak = section("streak", failedSections,
+                () -> userRepository.findStreakCountByUserNo(userNo)
+                        .map(count -> new StreakCountResponse(userNo, count))
+                        .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 존재하지 않습니다.")));
+        CompletableFuture<SkipStatusResponse> skipStatus = section("skipStatus", failedSections,
+                () -> quizService.getTodaySkipStatus(userNo));
+        CompletableFuture<QuizResultSummary> quizResult = section("quizResult", failedSections,
+                () -> quizService.getTodayQuizResultSummary(userNo));
+        CompletableFuture<UserBadgeResponse> latestBadge = section("latestBadge", failedSections,
+                () -> userBadgeService.getLatestBadge(userNo, null).orElse(null));
+
+        CompletableFuture.allOf(todayRecord, streak, skipStatus, quizResult, latestBadge).join();
+
+        return HomeResponse.builder()
+                .userNo(userNo)
+                .date(LocalDate.now())
+                .todayRecord(todayRecord.join())
+                .streak(streak.join())
+                .skipStatus(skipStatus.join())
+                .quizResult(quizResult.join())
+                .latestBadge(latestBadge.join())
+                .failedSections(List.copyOf(failedSections))
+                .build();
+    }
+
+    // 항목 하나를 홈 스레드 풀에서 조회 (실패/시간 초과 시 null로 완료)
+    // orTimeout은 응답 대기만 끊으므로, 실제 DB 작업은 트랜잭션 제한 시간(쿼리 타임아웃)으로 중단
+    // 풀 포화 시 CallerRunsPolicy로 요청 스레드에서 실행되어도 같은 쿼리 타임아웃이 적용됨
+    private <T> CompletableFuture<T> section(String name, List<String> failedSections, Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(() -> readTransaction.execute(status -> loader.get()), homeExecutor)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("⚠️ 홈 화면 항목 조회 실패: section={}, error={}", name, e.toString());
+                    failedSections.add(name);
+                    return null;
+                });
+    }
+}
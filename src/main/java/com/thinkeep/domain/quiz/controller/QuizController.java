@@ -50,12 +50,12 @@ public class QuizController {
     }
 
     /**
-     * 오늘의 퀴즈 2개 생성
+     * 오늘의 퀴즈 2개 조회 (첫 조회 시에만 생성)
      * GET /api/quizzes/today
      */
     @Operation(
-            summary = "오늘의 퀴즈 생성",
-            description = "최근 3일간의 일기 기록을 바탕으로 오늘의 회상 퀴즈 2개를 생성합니다."
+            summary = "오늘의 퀴즈 조회",
+            description = "최근 3일간의 일기 기록을 바탕으로 오늘의 회상 퀴즈 2개를 생성합니다. 오늘 이미 생성된 퀴즈가 있으면 다시 생성하지 않고 그대로 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "퀴즈 생성 성공"),
@@ -70,7 +70,7 @@ public class QuizController {
         Long resolvedUserNo = extractUserNo(authentication, userNo);
         log.info("GET /api/quizzes/today - userNo={}", resolvedUserNo);
 
-        List<QuizResponse> quizzes = quizService.generateTodayQuizzes(resolvedUserNo);
+        List<QuizResponse> quizzes = quizService.getTodayQuizzes(resolvedUserNo);
         return ResponseEntity.ok(quizzes);
     }
 
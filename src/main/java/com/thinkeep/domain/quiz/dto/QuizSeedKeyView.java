@@ -0,0 +1,14 @@
+package com.thinkeep.domain.quiz.dto;
+
+import com.thinkeep.domain.quiz.entity.QuestionType;
+
+/**
+ * 이미 출제된 (기록, 질문) 조합 프로젝션
+ * 오늘 퀴즈 시드 선택 시 중복 출제 필터링용
+ */
+public interface QuizSeedKeyView {
+
+    Long getRecordId();
+
+    QuestionType getQuestionId();
+}
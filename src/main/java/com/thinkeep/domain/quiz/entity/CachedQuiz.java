@@ -0,0 +1,74 @@
+package com.thinkeep.domain.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPT로 생성한 퀴즈 캐시 엔티티
+ * 같은 프롬프트(질문 유형 + 답변 + 날짜)로 다시 요청하면 OpenAI 호출 없이 재사용
+ * 키를 직접 지정하므로 Persistable로 새 엔티티임을 알려 save 시 merge용 SELECT 생략
+ */
+@Entity
+@Table(name = "cached_quizzes", indexes = {
+        @Index(name = "idx_cached_quizzes_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CachedQuiz implements Persistable<String> {
+
+    @Id
+    @Column(name = "prompt_hash", length = 64)
+    private String promptHash;          // 프롬프트 SHA-256 (hex)
+
+    @Column(name = "question", nullable = false, columnDefinition = "TEXT")
+    private String question;
+
+    @Column(name = "answer", nullable = false)
+    private String answer;
+
+    @Column(name = "choices", nullable = false, columnDefinition = "TEXT")
+    private String choices;             // 3지선다형 보기 - "||" 구분 문자열
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // DB에서 읽었거나 저장된 이후에는 false (DB 컬럼 아님)
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public String getId() {
+        return promptHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    public boolean isExpired(LocalDateTime threshold) {
+        return createdAt != null && createdAt.isBefore(threshold);
+    }
+}
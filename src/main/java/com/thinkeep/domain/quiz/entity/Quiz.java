@@ -2,13 +2,17 @@ package com.thinkeep.domain.quiz.entity;
 
 import com.thinkeep.domain.record.entity.Record;
 import com.thinkeep.domain.user.entity.User;
+import com.thinkeep.global.jpa.IdGeneratorInitializer;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "quizzes")
+@Table(name = "quizzes", indexes = {
+        @Index(name = "idx_quizzes_user_quiz_date", columnList = "user_no, quiz_date")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,7 +20,17 @@ import java.time.LocalDateTime;
 public class Quiz {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled 테이블 생성기 (50개씩 선할당) -> IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있음
+    // 블록을 새로 받을 때 커넥션을 하나 더 사용하므로 커넥션 풀에 여유 필요 (IdGeneratorInitializer 참고)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "quiz_id_generator")
+    @TableGenerator(
+            name = "quiz_id_generator",
+            table = IdGeneratorInitializer.TABLE,
+            pkColumnName = IdGeneratorInitializer.PK_COLUMN,
+            valueColumnName = IdGeneratorInitializer.VALUE_COLUMN,
+            pkColumnValue = IdGeneratorInitializer.QUIZZES,
+            allocationSize = IdGeneratorInitializer.ALLOCATION_SIZE
+    )
     private Long quizId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -42,6 +56,9 @@ public class Quiz {
 
     private LocalDateTime submittedAt;  // 응답 시간
 
+    @Column(name = "quiz_date")
+    private LocalDate quizDate;         // 출제 날짜 - 오늘의 퀴즈 세트 조회 기준
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean skipped = false;    //사용자가 해당 퀴즈를 건너뛰었는지 여부
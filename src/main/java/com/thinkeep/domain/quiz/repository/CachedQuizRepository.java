@@ -0,0 +1,25 @@
+package com.thinkeep.domain.quiz.repository;
+
+import com.thinkeep.domain.quiz.entity.CachedQuiz;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPT 퀴즈 캐시 데이터 접근 인터페이스
+ * 키: 프롬프트 해시
+ */
+@Repository
+public interface CachedQuizRepository extends JpaRepository<CachedQuiz, String> {
+
+    /**
+     * 보관 기간이 지난 캐시 정리
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CachedQuiz c WHERE c.createdAt < :threshold")
+    int deleteCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
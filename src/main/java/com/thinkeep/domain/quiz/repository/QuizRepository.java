@@ -1,15 +1,15 @@
 package com.thinkeep.domain.quiz.repository;
 
-import com.thinkeep.domain.quiz.entity.QuestionType;
+import com.thinkeep.domain.quiz.dto.QuizSeedKeyView;
 import com.thinkeep.domain.quiz.entity.Quiz;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
-import com.thinkeep.domain.record.entity.Record;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
@@ -40,8 +40,19 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
 
     /**
      * 중복 퀴즈 체크
+     * 후보 기록들에 대해 이미 출제된 (recordId, questionId) 조합을 한 번에 조회
      */
-    Optional<Quiz> findByUserNoAndRecordAndQuestionId(Long userNo, Record record, QuestionType questionId);
+    @Query("SELECT q.record.recordId AS recordId, q.questionId AS questionId FROM Quiz q " +
+            "WHERE q.userNo = :userNo AND q.record.recordId IN :recordIds")
+    List<QuizSeedKeyView> findQuizzedSeedKeys(Long userNo, Collection<Long> recordIds);
+
+    /**
+     * 누적 정답 퀴즈 수 / 제출(건너뛰기 포함)한 퀴즈 수
+     * 퀴즈 뱃지 평가용
+     */
+    long countByUserNoAndIsCorrectTrue(Long userNo);
+
+    long countByUserNoAndSubmittedAtIsNotNull(Long userNo);
 
     /**
      * 오늘 퀴즈 중 건너뛰기된 퀴즈 개수 세기
@@ -50,6 +61,20 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
             Long userNo, LocalDateTime start, LocalDateTime end
     );
 
+    /**
+     * 특정 날짜에 출제된 퀴즈 세트 조회 (출제 순서대로)
+     * 오늘의 퀴즈 재조회 시 GPT 재생성 없이 반환
+     */
+    List<Quiz> findByUserNoAndQuizDateOrderByQuizIdAsc(Long userNo, LocalDate quizDate);
+
+    /**
+     * 오늘 출제되었거나 오늘 제출된 퀴즈 조회
+     * 오늘 퀴즈 전체 삭제용
+     */
+    @Query("SELECT q FROM Quiz q WHERE q.userNo = :userNo " +
+            "AND (q.quizDate = :quizDate OR q.submittedAt BETWEEN :start AND :end)")
+    List<Quiz> findTodayQuizzes(Long userNo, LocalDate quizDate, LocalDateTime start, LocalDateTime end);
+
 
 
 }
@@ -1,74 +1,173 @@
 package com.thinkeep.domain.quiz.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.thinkeep.domain.quiz.dto.QuestionSeed;
 import com.thinkeep.domain.quiz.dto.QuizResponse;
 import com.thinkeep.domain.quiz.service.helper.GptPromptFactory;
 import com.thinkeep.domain.quiz.service.helper.GptQuizParser;
+import com.thinkeep.domain.quiz.service.helper.QuizCache;
+import com.thinkeep.global.llm.LlmGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.*;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OpenAiQuizService {
 
-    @Value("${openai.api.key}")
-    private String apiKey;
-
-    private static final String API_URL = "https://api.openai.com/v1/chat/completions";
     private static final String MODEL = "gpt-4o-mini";
-    private final OkHttpClient client = new OkHttpClient();
+    private static final double TEMPERATURE = 0.3; //낮은 창의성 → 일관된 퀴즈 생성
+
+    private final LlmGateway llmGateway;
     private final GptPromptFactory promptFactory;
     private final GptQuizParser quizParser;
+    private final QuizCache quizCache;
+    @Qualifier("quizGenerationExecutor")
+    private final Executor quizGenerationExecutor;
 
 
     public QuizResponse generateQuizFromSeed(QuestionSeed seed) throws IOException {
         String instruction = promptFactory.createPrompt(seed);
-        log.info("🔍 GPT 퀴즈 생성 시도 - Seed: {}", seed);
 
-        // JSON 구조 생성
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode requestBody = mapper.createObjectNode();
-        requestBody.put("model", MODEL);
-        requestBody.put("temperature", 0.3); //낮은 창의성 → 일관된 퀴즈 생성
-
-        ArrayNode messages = mapper.createArrayNode();
-        ObjectNode userMessage = mapper.createObjectNode();
-        userMessage.put("role", "user");
-        userMessage.put("content", instruction);
-        messages.add(userMessage);
-
-        requestBody.set("messages", messages);
-
-        // 직렬화
-        String json = mapper.writeValueAsString(requestBody);
-        RequestBody body = RequestBody.create(json, MediaType.parse("application/json"));
-
-        // 요청 전송
-        Request request = new Request.Builder()
-                .url(API_URL)
-                .header("Authorization", "Bearer " + apiKey)
-                .header("Content-Type", "application/json")
-                .post(body)
-                .build();
-
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "empty";
-                log.error("GPT 요청 실패: HTTP {}, Body: {}", response.code(), errorBody);
-                throw new IOException("GPT 요청 실패: HTTP " + response.code());
+        // 같은 프롬프트로 생성한 퀴즈가 있으면 GPT 호출 없이 재사용
+        String promptHash = quizCache.hash(instruction);
+        Optional<QuizResponse> cached = quizCache.get(promptHash);
+        if (cached.isPresent()) {
+            log.info("♻️ 캐시된 퀴즈 사용 - questionId={}, recordId={}", seed.getQuestionId(), seed.getRecordId());
+            return cached.get();
+        }
+
+        return requestQuiz(seed, instruction, promptHash);
+    }
+
+    /**
+     * 여러 시드의 퀴즈를 한 번의 GPT 호출로 생성 (결과는 시드 순서와 동일)
+     * 캐시에 있는 시드는 제외하고, 배치 응답에서 파싱에 실패한 시드만 단건 요청으로 재시도
+     */
+    public List<QuizResponse> generateQuizzesFromSeeds(List<QuestionSeed> seeds) throws IOException {
+        List<QuizResponse> results = new ArrayList<>(Collections.nCopies(seeds.size(), null));
+        List<String> prompts = new ArrayList<>();
+        List<String> promptHashes = new ArrayList<>();
+        List<Integer> missIndexes = new ArrayList<>();
+
+        // 1. 시드별 캐시 조회 (캐시 키는 단건 프롬프트 기준이라 단건 생성과 공유됨)
+        for (int i = 0; i < seeds.size(); i++) {
+            String instruction = promptFactory.createPrompt(seeds.get(i));
+            String promptHash = quizCache.hash(instruction);
+            prompts.add(instruction);
+            promptHashes.add(promptHash);
+
+            Optional<QuizResponse> cached = quizCache.get(promptHash);
+            if (cached.isPresent()) {
+                results.set(i, cached.get());
+            } else {
+                missIndexes.add(i);
+            }
+        }
+
+        if (missIndexes.isEmpty()) {
+            log.info("♻️ 캐시된 퀴즈 사용 - 시드 {}개 모두 캐시 적중", seeds.size());
+            return results;
+        }
+
+        if (missIndexes.size() == 1) {
+            int index = missIndexes.get(0);
+            results.set(index, requestQuiz(seeds.get(index), prompts.get(index), promptHashes.get(index)));
+            return results;
+        }
+
+        // 2. 캐시에 없는 시드를 하나의 요청으로 생성
+        List<QuestionSeed> missSeeds = missIndexes.stream().map(seeds::get).toList();
+        List<QuizResponse> generated = requestBatch(missSeeds);
+
+        // 3. 성공한 항목은 캐시에 저장, 실패한 항목은 단건 요청으로 동시에 재시도
+        List<Integer> fallbackIndexes = new ArrayList<>();
+        for (int i = 0; i < missIndexes.size(); i++) {
+            int index = missIndexes.get(i);
+            QuizResponse quiz = generated.get(i);
+
+            if (quiz == null) {
+                fallbackIndexes.add(index);
+                continue;
+            }
+            quizCache.put(promptHashes.get(index), quiz);
+            results.set(index, quiz);
+        }
+
+        if (!fallbackIndexes.isEmpty()) {
+            log.warn("⚠️ 배치 생성 실패 항목 단건 재시도 - {}개", fallbackIndexes.size());
+
+            Map<Integer, CompletableFuture<QuizResponse>> fallbacks = new LinkedHashMap<>();
+            for (int index : fallbackIndexes) {
+                fallbacks.put(index, CompletableFuture.supplyAsync(
+                        () -> requestQuizUnchecked(seeds.get(index), prompts.get(index), promptHashes.get(index)),
+                        quizGenerationExecutor));
+            }
+            for (Map.Entry<Integer, CompletableFuture<QuizResponse>> fallback : fallbacks.entrySet()) {
+                results.set(fallback.getKey(), join(fallback.getValue()));
             }
+        }
+
+        return results;
+    }
+
+    // 배치 요청 - 요청 자체가 실패하면 모든 항목을 실패(null)로 처리해 단건 재시도로 넘김
+    private List<QuizResponse> requestBatch(List<QuestionSeed> seeds) {
+        log.info("🔍 GPT 배치 퀴즈 생성 시도 - 시드 {}개", seeds.size());
 
-            String gptRaw = response.body().string();
-            return quizParser.parse(gptRaw, seed);
+        try {
+            String gptRaw = callChatCompletion(promptFactory.createBatchPrompt(seeds));
+            return quizParser.parseBatch(gptRaw, seeds);
+        } catch (IOException | RuntimeException e) {
+            log.error("GPT 배치 요청 실패: {}", e.getMessage());
+            return new ArrayList<>(Collections.nCopies(seeds.size(), null));
         }
     }
+
+    // 단건 요청 후 캐시에 저장
+    private QuizResponse requestQuiz(QuestionSeed seed, String instruction, String promptHash) throws IOException {
+        log.info("🔍 GPT 퀴즈 생성 시도 - Seed: {}", seed);
+
+        String gptRaw = callChatCompletion(instruction);
+        QuizResponse quiz = quizParser.parse(gptRaw, seed);
+
+        quizCache.put(promptHash, quiz);
+        return quiz;
+    }
+
+    private QuizResponse requestQuizUnchecked(QuestionSeed seed, String instruction, String promptHash) {
+        try {
+            return requestQuiz(seed, instruction, promptHash);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 비동기 재시도 결과 대기 (IOException은 원래 형태로 전달)
+    private QuizResponse join(CompletableFuture<QuizResponse> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException cause) {
+                throw cause.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Chat Completions 호출 후 응답 원문 반환 (재시도/타임아웃/회로 차단은 게이트웨이가 처리)
+    private String callChatCompletion(String instruction) throws IOException {
+        return llmGateway.chatCompletion(MODEL, instruction, TEMPERATURE);
+    }
 }
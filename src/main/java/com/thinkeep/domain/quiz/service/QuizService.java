@@ -1,5 +1,8 @@
 package com.thinkeep.domain.quiz.service;
 
+import com.thinkeep.domain.badge.rule.BadgeMetric;
+import com.thinkeep.domain.badge.rule.BadgeRuleEngine;
+import com.thinkeep.domain.badge.service.BadgeAwardService;
 import com.thinkeep.domain.quiz.dto.*;
 import com.thinkeep.domain.quiz.entity.QuestionType;
 import com.thinkeep.domain.quiz.entity.Quiz;
@@ -9,12 +12,17 @@ import com.thinkeep.domain.record.repository.RecordRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,85 +34,175 @@ public class QuizService {
     private final QuizRepository quizRepository;
     private final RecordRepository recordRepository;
     private final OpenAiQuizService openAiService;
+    private final TransactionTemplate transactionTemplate;
+    private final BadgeAwardService badgeAwardService;
+    private final BadgeRuleEngine badgeRuleEngine;
+
+    // 사용자별 진행 중인 오늘 퀴즈 생성 작업
+    private final Map<Long, CompletableFuture<List<QuizResponse>>> inFlightGenerations = new ConcurrentHashMap<>();
+
+    //오늘 퀴즈 조회 -> 오늘 출제된 세트가 있으면 그대로 반환, 없을 때만 새로 생성 (하루 1회 생성)
+    //GPT 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<QuizResponse> getTodayQuizzes(Long userNo) {
+        Optional<List<QuizResponse>> stored = findStoredTodayQuizzes(userNo);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        // 같은 사용자의 동시 첫 요청은 하나의 생성 작업 결과를 공유
+        CompletableFuture<List<QuizResponse>> generation = new CompletableFuture<>();
+        CompletableFuture<List<QuizResponse>> inFlight = inFlightGenerations.putIfAbsent(userNo, generation);
+        if (inFlight != null) {
+            log.info("진행 중인 오늘 퀴즈 생성 대기: userNo={}", userNo);
+            return join(inFlight);
+        }
+
+        try {
+            // 직전 요청이 방금 저장을 마쳤을 수 있으므로 한 번 더 확인
+            List<QuizResponse> result = findStoredTodayQuizzes(userNo)
+                    .orElseGet(() -> generateTodayQuizzes(userNo));
+            generation.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            generation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightGenerations.remove(userNo, generation);
+        }
+    }
+
+    //오늘 출제된 퀴즈 세트 조회
+    private Optional<List<QuizResponse>> findStoredTodayQuizzes(Long userNo) {
+        List<Quiz> todayQuizzes = quizRepository.findByUserNoAndQuizDateOrderByQuizIdAsc(userNo, LocalDate.now());
+
+        if (todayQuizzes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        log.info("오늘 퀴즈 세트 재사용: userNo={}, 퀴즈 수={}", userNo, todayQuizzes.size());
+        return Optional.of(todayQuizzes.stream()
+                .map(this::toQuizResponse)
+                .toList());
+    }
 
     //오늘 퀴즈 생성
-    @Transactional
-    public List<QuizResponse> generateTodayQuizzes(Long userNo) {
+    //1. 출제할 시드 선택 (조회만) -> 2. GPT 배치 호출 (트랜잭션 밖) -> 3. 짧은 트랜잭션으로 저장
+    private List<QuizResponse> generateTodayQuizzes(Long userNo) {
         log.info("오늘 퀴즈 생성 요청: userNo={}", userNo);
 
         LocalDate today = LocalDate.now();
+
+        // 1. 출제할 시드 선택
+        List<QuestionSeed> selectedSeeds = selectTodaySeeds(userNo, today);
+        if (selectedSeeds.isEmpty())
+            return List.of();
+
+        // 2. GPT 기반 퀴즈 생성 - 선택된 시드를 한 번의 요청으로 생성
+        List<QuizResponse> responses = generateGptQuizzes(selectedSeeds);
+
+        // 3. 퀴즈 저장 - 생성이 끝난 뒤에만 트랜잭션 시작
+        return transactionTemplate.execute(status -> saveTodayQuizzes(userNo, today, selectedSeeds, responses));
+    }
+
+    //최근 3일 기록에서 오늘 출제할 시드 최대 2개 선택 (이미 출제된 질문 제외)
+    private List<QuestionSeed> selectTodaySeeds(Long userNo, LocalDate today) {
         List<Record> recentRecords = recordRepository.findByUserNoAndDateBetween(
                 userNo, today.minusDays(3), today.minusDays(1)
         );
 
+        if (recentRecords.isEmpty()) {
+            return List.of();
+        }
+
+        // 이미 출제된 (기록, 질문) 조합을 한 번에 조회
+        Set<String> quizzedKeys = quizRepository.findQuizzedSeedKeys(
+                        userNo, recentRecords.stream().map(Record::getRecordId).toList())
+                .stream()
+                .map(key -> seedKey(key.getRecordId(), key.getQuestionId().name()))
+                .collect(Collectors.toSet());
+
         // 날짜 구분
         Map<LocalDate, List<Record>> recordsByDate = recentRecords.stream()
                 .collect(Collectors.groupingBy(Record::getDate));
 
         // 날짜 리스트 전체 랜덤 순회
         List<LocalDate> dateList = new ArrayList<>(recordsByDate.keySet());
-        if (dateList.isEmpty())
-            return List.of();
-
         Collections.shuffle(dateList); // 날짜 순서를 무작위로 섞음
 
-        List<QuizResponse> quizResponses = new ArrayList<>();
-        int createdCount = 0;
+        List<QuestionSeed> selectedSeeds = new ArrayList<>();
 
-        // 날짜 하나씩 순회 -> 퀴즈 2개 생성 시도
+        // 날짜 하나씩 순회 -> 시드 2개 선택
         for (LocalDate selectedDate : dateList) {
             List<Record> selectedRecords = recordsByDate.get(selectedDate);
             List<QuestionSeed> seeds = extractSeedsFromRecords(selectedRecords);
 
             for (QuestionSeed seed : seeds) {
-                if (createdCount >= 2) break;
+                if (selectedSeeds.size() >= 2) break;
 
-                // 1. Record 객체 생성
-                Record record = Record.builder().recordId(seed.getRecordId()).build();
-
-                // 2. 중복 퀴즈 존재 여부 확인
-                boolean alreadyExists = quizRepository
-                        .findByUserNoAndRecordAndQuestionId(
-                                userNo,
-                                record,
-                                QuestionType.valueOf(seed.getQuestionId())
-                        ).isPresent();
-
-                if (alreadyExists) {
+                // 중복 퀴즈 존재 여부 확인 (메모리에서 필터링)
+                if (quizzedKeys.contains(seedKey(seed.getRecordId(), seed.getQuestionId()))) {
                     log.info("[중복 퀴즈 건너뜀] userNo={}, recordId={}, questionId={}",
                             userNo, seed.getRecordId(), seed.getQuestionId());
                     continue;
                 }
 
-                // 3. GPT 기반 퀴즈 생성
-                QuizResponse response = generateGptQuiz(seed);
-
-                // 4. 퀴즈 저장
-                Quiz quiz = Quiz.builder()
-                        .userNo(userNo)
-                        .record(record)
-                        .questionId(QuestionType.valueOf(seed.getQuestionId()))
-                        .context("기록 기반 회상 퀴즈")
-                        .question(response.getQuestion())
-                        .answer(response.getAnswer())
-                        .choices(String.join("||", response.getChoices()))
-                        .submittedAt(null)
-                        .isCorrect(null)
-                        .skipped(false)
-                        .build();
-
-                // 저장 후 실제 quizId 획득
-                Quiz savedQuiz = quizRepository.save(quiz);
-                response.setQuizId(savedQuiz.getQuizId());
-
-                quizResponses.add(response);
-                createdCount++;
+                selectedSeeds.add(seed);
             }
-            // 퀴즈 2개 생성되면 종료
-            if (createdCount >= 2) break;
+            // 시드 2개 선택되면 종료
+            if (selectedSeeds.size() >= 2) break;
         }
 
-        return quizResponses;
+        return selectedSeeds;
+    }
+
+    private String seedKey(Long recordId, String questionId) {
+        return recordId + ":" + questionId;
+    }
+
+    //생성된 퀴즈 저장 후 실제 quizId를 응답에 반영
+    private List<QuizResponse> saveTodayQuizzes(Long userNo, LocalDate today,
+                                                List<QuestionSeed> seeds, List<QuizResponse> responses) {
+        List<Quiz> quizzes = new ArrayList<>();
+
+        for (int i = 0; i < seeds.size(); i++) {
+            QuestionSeed seed = seeds.get(i);
+            QuizResponse response = responses.get(i);
+
+            quizzes.add(Quiz.builder()
+                    .userNo(userNo)
+                    .record(recordRepository.getReferenceById(seed.getRecordId()))
+                    .questionId(QuestionType.valueOf(seed.getQuestionId()))
+                    .context("기록 기반 회상 퀴즈")
+                    .question(response.getQuestion())
+                    .answer(response.getAnswer())
+                    .choices(String.join("||", response.getChoices()))
+                    .submittedAt(null)
+                    .quizDate(today)
+                    .isCorrect(null)
+                    .skipped(false)
+                    .build());
+        }
+
+        List<Quiz> savedQuizzes = quizRepository.saveAll(quizzes);
+        for (int i = 0; i < savedQuizzes.size(); i++) {
+            responses.get(i).setQuizId(savedQuizzes.get(i).getQuizId());
+        }
+
+        log.info("오늘 퀴즈 저장 완료: userNo={}, 퀴즈 수={}", userNo, savedQuizzes.size());
+        return responses;
+    }
+
+    //비동기 작업 결과 대기 (원래 발생한 예외를 그대로 전달)
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
 
@@ -169,6 +267,21 @@ public class QuizService {
 
         log.info("퀴즈 제출 처리 완료: quizId={}, skipped={}, isCorrect={}, userAnswer='{}'",
                 quiz.getQuizId(), skipped, quiz.getIsCorrect(), quiz.getUserAnswer());
+
+        evaluateQuizBadges(quiz.getUserNo());
+    }
+
+    // 퀴즈 관련 뱃지 평가 (해당 규칙이 있을 때만 집계 쿼리 실행)
+    private void evaluateQuizBadges(Long userNo) {
+        badgeAwardService.awardIfRulesExist(userNo, BadgeMetric.QUIZ_CORRECT_COUNT,
+                () -> quizRepository.countByUserNoAndIsCorrectTrue(userNo));
+
+        if (badgeRuleEngine.hasRules(BadgeMetric.QUIZ_ACCURACY)) {
+            long submitted = quizRepository.countByUserNoAndSubmittedAtIsNotNull(userNo);
+            long correct = quizRepository.countByUserNoAndIsCorrectTrue(userNo);
+            double accuracy = submitted == 0 ? 0 : correct * 100.0 / submitted;
+            badgeAwardService.award(userNo, BadgeMetric.QUIZ_ACCURACY, accuracy, submitted);
+        }
     }
 
     //오늘 푼 퀴즈 중 오답 전체 목록 조회
@@ -246,13 +359,14 @@ public class QuizService {
         log.info("퀴즈 삭제 완료: quizId={}, userNo={}", quizId, userNo);
     }
 
-    //생성일 기준 해당 사용자의 퀴즈를 모두 삭제
+    //생성일 기준 해당 사용자의 퀴즈를 모두 삭제 -> 오늘 출제 세트도 함께 삭제되어 다음 조회 시 새로 생성됨
     @Transactional
     public void deleteTodayQuizzes(Long userNo) {
-        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
+        LocalDate today = LocalDate.now();
+        LocalDateTime todayStart = today.atStartOfDay();
         LocalDateTime tomorrowStart = todayStart.plusDays(1);
 
-        List<Quiz> todayQuizzes = quizRepository.findByUserNoAndSubmittedAtBetween(userNo, todayStart, tomorrowStart);
+        List<Quiz> todayQuizzes = quizRepository.findTodayQuizzes(userNo, today, todayStart, tomorrowStart);
         quizRepository.deleteAll(todayQuizzes);
 
         log.info("오늘 퀴즈 전체 삭제 완료: userNo={}, 삭제된 수={}", userNo, todayQuizzes.size());
@@ -263,6 +377,17 @@ public class QuizService {
 
     //보조 메서드
 
+    // 저장된 퀴즈 -> 응답 DTO (생성 직후 응답과 동일한 형태)
+    private QuizResponse toQuizResponse(Quiz quiz) {
+        return QuizResponse.builder()
+                .quizId(quiz.getQuizId())
+                .context(quiz.getContext())
+                .question(quiz.getQuestion())
+                .choices(Arrays.asList(quiz.getChoices().split("\\|\\|")))
+                .answer(quiz.getAnswer())
+                .build();
+    }
+
     // 기록에서 Q2~Q4 기반 질문/정답 추출
     private List<QuestionSeed> extractSeedsFromRecords(List<Record> records) {
         List<QuestionSeed> seeds = new ArrayList<>();
@@ -283,10 +408,10 @@ public class QuizService {
         return seeds;
     }
 
-    // 현재는 GPT 없이 임시 3지선다 생성 (정답 + 보기용 오답 2개)
-    private QuizResponse generateGptQuiz(QuestionSeed seed) {
+    // GPT 퀴즈 생성 (시드 여러 개를 한 번의 요청으로 묶음)
+    private List<QuizResponse> generateGptQuizzes(List<QuestionSeed> seeds) {
         try {
-            return openAiService.generateQuizFromSeed(seed);
+            return openAiService.generateQuizzesFromSeeds(seeds);
         } catch (IOException e) {
             log.error("GPT 퀴즈 생성 중 오류 발생: {}", e.getMessage());
             throw new RuntimeException("GPT 퀴즈 생성 실패", e);
@@ -9,8 +9,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,7 +24,7 @@ public class GptQuizParser {    // GPT 응답 텍스트에서 JSON 블록을 파
 
     public QuizResponse parse(String gptResponseJson, QuestionSeed seed) throws IOException {
         JsonNode root = mapper.readTree(gptResponseJson);
-        String content = root.path("choices").get(0).path("message").path("content").asText();
+        String content = root.path("choices").path(0).path("message").path("content").asText();
 
         log.debug("[GPT 응답 - 원본 메시지 content]: \n{}", content);
 
@@ -38,34 +40,99 @@ public class GptQuizParser {    // GPT 응답 텍스트에서 JSON 블록을 파
         log.debug("[GPT 응답 - JSON 추출]: \n{}", jsonBlock);
 
         try {
-            JsonNode quizJson = mapper.readTree(jsonBlock);
-            String question = quizJson.get("question").asText();
-            String answer = quizJson.get("answer").asText();
+            QuizResponse quiz = toQuizResponse(mapper.readTree(jsonBlock));
+            log.info("[GPT 퀴즈 생성 완료] 질문: '{}', 정답: '{}', 보기: {}", quiz.getQuestion(), quiz.getAnswer(), quiz.getChoices());
+            return quiz;
 
-            // 🔧 타입 안전한 방식으로 List<String> 추출
-            List<String> choices = mapper.convertValue(quizJson.get("choices"), new TypeReference<>() {});
+        } catch (Exception e) {
+            log.error("[GPT 파싱 오류] JSON 파싱 실패. jsonBlock: {}\n에러: {}", jsonBlock, e.getMessage());
+            throw new IOException("GPT 응답 JSON 파싱 실패", e);
+        }
+    }
 
-            // 🔧 정답이 보기 안에 있는지 확인 (안전망)
-            if (!choices.contains(answer)) {
-                log.warn("[GPT 경고] 보기 목록에 정답이 포함되지 않음! answer={}, choices={}", answer, choices);
-                choices.add(answer); // 예외 처리용으로 강제로 추가
-            }
+    /**
+     * 배치 요청 응답(JSON 배열)을 시드 순서대로 분리
+     * 파싱에 실패한 항목은 null -> 호출 측에서 해당 시드만 단건 요청으로 재시도
+     */
+    public List<QuizResponse> parseBatch(String gptResponseJson, List<QuestionSeed> seeds) throws IOException {
+        JsonNode root = mapper.readTree(gptResponseJson);
+        String content = root.path("choices").path(0).path("message").path("content").asText();
 
-            Collections.shuffle(choices);
+        log.debug("[GPT 배치 응답 - 원본 메시지 content]: \n{}", content);
 
-            log.info("[GPT 퀴즈 생성 완료] 질문: '{}', 정답: '{}', 보기: {}", question, answer, choices);
+        List<QuizResponse> results = new ArrayList<>(Collections.nCopies(seeds.size(), null));
 
-            return QuizResponse.builder()
-                    .context("기록 기반 회상 퀴즈")
-                    .question(question)
-                    .answer(answer)
-                    .choices(choices)
-                    .build();
+        // choices가 없는 응답 (200 오류 본문, 콘텐츠 필터 등) -> 전 항목 단건 재시도
+        if (content.isBlank()) {
+            log.error("[GPT 배치 파싱 실패] 응답에 message content 없음: seeds={}, body={}", seeds.size(), gptResponseJson);
+            return results;
+        }
+
+        String arrayBlock = extractJsonArrayBlock(content);
+        if (arrayBlock == null) {
+            log.error("[GPT 배치 파싱 실패] JSON 배열 추출 실패: seeds={}, content={}", seeds.size(), content);
+            return results;
+        }
 
+        JsonNode items;
+        try {
+            items = mapper.readTree(arrayBlock);
         } catch (Exception e) {
-            log.error("[GPT 파싱 오류] JSON 파싱 실패. jsonBlock: {}\n에러: {}", jsonBlock, e.getMessage());
-            throw new IOException("GPT 응답 JSON 파싱 실패", e);
+            log.error("[GPT 배치 파싱 오류] JSON 배열 파싱 실패. arrayBlock: {}\n에러: {}", arrayBlock, e.getMessage());
+            return results;
+        }
+
+        if (!items.isArray()) {
+            log.error("[GPT 배치 파싱 실패] 응답이 JSON 배열이 아님: arrayBlock={}", arrayBlock);
+            return results;
         }
+
+        for (int i = 0; i < items.size(); i++) {
+            JsonNode item = items.get(i);
+
+            // "id"(1부터)로 시드 위치를 찾고, 없으면 배열 순서를 사용
+            int index = item.hasNonNull("id") ? item.get("id").asInt() - 1 : i;
+            if (index < 0 || index >= seeds.size() || results.get(index) != null) {
+                log.warn("[GPT 배치 경고] 알 수 없는 퀴즈 번호 무시: id={}, seeds={}", item.get("id"), seeds.size());
+                continue;
+            }
+
+            try {
+                results.set(index, toQuizResponse(item));
+            } catch (Exception e) {
+                QuestionSeed seed = seeds.get(index);
+                log.warn("[GPT 배치 파싱 오류] 항목 파싱 실패: recordId={}, questionId={}, item={}, 에러: {}",
+                        seed.getRecordId(), seed.getQuestionId(), item, e.getMessage());
+            }
+        }
+
+        log.info("[GPT 배치 퀴즈 파싱 완료] 요청 {}개 중 {}개 성공",
+                seeds.size(), results.stream().filter(Objects::nonNull).count());
+        return results;
+    }
+
+    // 퀴즈 JSON 객체 하나를 응답 DTO로 변환
+    private QuizResponse toQuizResponse(JsonNode quizJson) {
+        String question = quizJson.get("question").asText();
+        String answer = quizJson.get("answer").asText();
+
+        // 🔧 타입 안전한 방식으로 List<String> 추출
+        List<String> choices = mapper.convertValue(quizJson.get("choices"), new TypeReference<>() {});
+
+        // 🔧 정답이 보기 안에 있는지 확인 (안전망)
+        if (!choices.contains(answer)) {
+            log.warn("[GPT 경고] 보기 목록에 정답이 포함되지 않음! answer={}, choices={}", answer, choices);
+            choices.add(answer); // 예외 처리용으로 강제로 추가
+        }
+
+        Collections.shuffle(choices);
+
+        return QuizResponse.builder()
+                .context("기록 기반 회상 퀴즈")
+                .question(question)
+                .answer(answer)
+                .choices(choices)
+                .build();
     }
 
     /**
@@ -77,5 +144,14 @@ public class GptQuizParser {    // GPT 응답 텍스트에서 JSON 블록을 파
         Matcher matcher = pattern.matcher(text);
         return matcher.find() ? matcher.group() : null;
     }
+
+    /**
+     * GPT 응답 텍스트에서 JSON 배열 블록 추출 (첫 '[' ~ 마지막 ']')
+     */
+    private String extractJsonArrayBlock(String text) {
+        int start = text.indexOf('[');
+        int end = text.lastIndexOf(']');
+        return start >= 0 && end > start ? text.substring(start, end + 1) : null;
+    }
 }
 
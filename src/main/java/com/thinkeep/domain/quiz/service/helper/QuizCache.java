@@ -0,0 +1,149 @@
+package com.thinkeep.domain.quiz.service.helper;
+
+import com.thinkeep.domain.quiz.dto.QuizResponse;
+import com.thinkeep.domain.quiz.entity.CachedQuiz;
+import com.thinkeep.domain.quiz.repository.CachedQuizRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * GPT 퀴즈 생성 결과 2단 캐시
+ * 1차: 크기 제한 메모리 LRU, 2차: cached_quizzes 테이블
+ * 키는 GptPromptFactory가 만든 프롬프트의 SHA-256 해시
+ * 보관 기간(ttl-days)이 지난 항목은 조회에서 제외하고 주기적으로 삭제
+ */
+@Slf4j
+@Component
+public class QuizCache {
+
+    private final CachedQuizRepository cachedQuizRepository;
+    private final Map<String, CachedQuiz> memoryCache;
+    private final Duration ttl;
+
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    public QuizCache(CachedQuizRepository cachedQuizRepository,
+                     MeterRegistry meterRegistry,
+                     @Value("${app.quiz.cache.max-size:1000}") int maxSize,
+                     @Value("${app.quiz.cache.ttl-days:30}") long ttlDays) {
+        this.cachedQuizRepository = cachedQuizRepository;
+        this.ttl = Duration.ofDays(ttlDays);
+
+        // 접근 순서 LinkedHashMap -> 가장 오래 사용되지 않은 항목부터 제거
+        this.memoryCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedQuiz> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        this.memoryHits = meterRegistry.counter("quiz.cache.requests", "result", "memory_hit");
+        this.databaseHits = meterRegistry.counter("quiz.cache.requests", "result", "db_hit");
+        this.misses = meterRegistry.counter("quiz.cache.requests", "result", "miss");
+        meterRegistry.gaugeMapSize("quiz.cache.memory.size", Collections.emptyList(), memoryCache);
+    }
+
+    /**
+     * 프롬프트 해시 생성 (SHA-256 hex)
+     */
+    public String hash(String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(prompt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 캐시 조회 (메모리 -> DB 순서)
+     * DB에서 찾은 항목은 메모리 캐시에 올려둠
+     */
+    public Optional<QuizResponse> get(String promptHash) {
+        LocalDateTime threshold = LocalDateTime.now().minus(ttl);
+
+        CachedQuiz cached = memoryCache.get(promptHash);
+        if (cached != null && !cached.isExpired(threshold)) {
+            memoryHits.increment();
+            return Optional.of(toResponse(cached));
+        }
+
+        Optional<CachedQuiz> stored = cachedQuizRepository.findById(promptHash)
+                .filter(quiz -> !quiz.isExpired(threshold));
+        if (stored.isPresent()) {
+            databaseHits.increment();
+            memoryCache.put(promptHash, stored.get());
+            return Optional.of(toResponse(stored.get()));
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 생성된 퀴즈를 메모리와 DB에 저장
+     * DB 저장 실패(동시 저장 등)는 캐시 기능만 포기하고 퀴즈 생성은 계속 진행
+     */
+    public void put(String promptHash, QuizResponse response) {
+        CachedQuiz cached = CachedQuiz.builder()
+                .promptHash(promptHash)
+                .question(response.getQuestion())
+                .answer(response.getAnswer())
+                .choices(String.join("||", response.getChoices()))
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        memoryCache.put(promptHash, cached);
+
+        try {
+            cachedQuizRepository.save(cached);
+        } catch (Exception e) {
+            log.warn("[퀴즈 캐시] DB 저장 실패: promptHash={}, error={}", promptHash, e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 캐시 정리 (DB + 메모리)
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.cache.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minus(ttl);
+        int deleted = cachedQuizRepository.deleteCreatedBefore(threshold);
+
+        synchronized (memoryCache) {
+            memoryCache.values().removeIf(quiz -> quiz.isExpired(threshold));
+        }
+
+        if (deleted > 0) {
+            log.info("[퀴즈 캐시] 만료 캐시 정리: {}건", deleted);
+        }
+    }
+
+    // 호출자가 quizId 등을 수정하므로 매번 새 응답 객체 생성 (보기 순서도 다시 섞음)
+    private QuizResponse toResponse(CachedQuiz cached) {
+        List<String> choices = new ArrayList<>(Arrays.asList(cached.getChoices().split("\\|\\|")));
+        Collections.shuffle(choices);
+
+        return QuizResponse.builder()
+                .context("기록 기반 회상 퀴즈")
+                .question(cached.getQuestion())
+                .answer(cached.getAnswer())
+                .choices(choices)
+                .build();
+    }
+}
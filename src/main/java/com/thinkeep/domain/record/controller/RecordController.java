@@ -1,6 +1,7 @@
 package com.thinkeep.domain.record.controller;
 
 import com.thinkeep.domain.record.dto.*;
+import com.thinkeep.domain.record.service.RecordExportService;
 import com.thinkeep.domain.record.service.RecordService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,14 +11,18 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 일기 기록 API 컨트롤러
@@ -32,6 +37,7 @@ import java.util.Optional;
 public class RecordController {
 
     private final RecordService recordService;
+    private final RecordExportService recordExportService;
 
     // ========================================
     // 1. 핵심 API: 일기 작성
@@ -172,6 +178,127 @@ public class RecordController {
         }
     }
 
+    /**
+     * 사용자 일기 목록 페이지 조회 (무한 스크롤)
+     * GET /api/records/user/{userNo}/page?cursor={cursor}&size={size}
+     */
+    @Operation(summary = "사용자 일기 목록 페이지 조회", description = "특정 사용자의 일기를 최신순으로 size개씩 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "일기 목록 페이지 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
+    })
+    @GetMapping("/user/{userNo}/page")
+    public ResponseEntity<?> getRecordPageByUser(
+            @Parameter(description = "조회할 사용자 번호") @PathVariable Long userNo,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100, 기본 20)") @RequestParam(required = false) Integer size) {
+
+        log.info("GET /api/records/user/{}/page - 사용자 일기 페이지 조회", userNo);
+
+        try {
+            RecordPageResponse page = recordService.getRecordPage(userNo, cursor, size);
+
+            log.info("사용자 일기 페이지 조회 성공: userNo={}, 기록 수={}, hasNext={}",
+                    userNo, page.getRecords().size(), page.isHasNext());
+            return ResponseEntity.ok(page);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("사용자 일기 페이지 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("사용자 일기 페이지 조회 실패: userNo={}", userNo, e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("일기 목록 조회 중 오류가 발생했습니다"));
+        }
+    }
+
+    /**
+     * 내 일기 목록 페이지 조회 (JWT 토글 지원)
+     * GET /api/records/page?cursor={cursor}&size={size}
+     */
+    @Operation(summary = "내 일기 목록 페이지 조회", description = "현재 로그인된 사용자의 일기를 최신순으로 size개씩 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "일기 목록 페이지 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<?> getMyRecordPage(
+            Authentication authentication,
+            @Parameter(description = "사용자 번호 (JWT 비활성화 시 필수)") @RequestParam(required = false) Long userNo,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100, 기본 20)") @RequestParam(required = false) Integer size) {
+
+        log.info("GET /api/records/page - 내 일기 페이지 조회");
+
+        try {
+            Long targetUserNo = extractUserNo(authentication, userNo);
+
+            RecordPageResponse page = recordService.getRecordPage(targetUserNo, cursor, size);
+
+            log.info("내 일기 페이지 조회 성공: userNo={}, 기록 수={}, hasNext={}",
+                    targetUserNo, page.getRecords().size(), page.isHasNext());
+            return ResponseEntity.ok(page);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("내 일기 페이지 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("내 일기 페이지 조회 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("일기 목록 조회 중 오류가 발생했습니다"));
+        }
+    }
+
+    /**
+     * 내 전체 데이터 내보내기 (기록, 퀴즈, 뱃지)
+     * GET /api/records/export?gzip={true|false}
+     */
+    @Operation(summary = "내 전체 데이터 내보내기", description = "기록, 퀴즈, 뱃지 전체를 NDJSON(한 줄에 JSON 하나)으로 스트리밍합니다. gzip=true면 gzip 압축 파일로 내려줍니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 스트리밍 시작"),
+            @ApiResponse(responseCode = "400", description = "userNo 누락")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<?> exportMyData(
+            Authentication authentication,
+            @Parameter(description = "사용자 번호 (JWT 비활성화 시 필수)") @RequestParam(required = false) Long userNo,
+            @Parameter(description = "gzip 압축 여부") @RequestParam(defaultValue = "false") boolean gzip) {
+
+        log.info("GET /api/records/export - 데이터 내보내기 요청: gzip={}", gzip);
+
+        Long targetUserNo;
+        try {
+            targetUserNo = extractUserNo(authentication, userNo);
+        } catch (IllegalArgumentException e) {
+            log.warn("데이터 내보내기 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+
+        // 응답 스트림에 바로 기록 (전체 데이터를 메모리에 올리지 않음)
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                try {
+                    recordExportService.export(targetUserNo, gzipOut);
+                    gzipOut.finish();
+                } finally {
+                    // 내보내기 실패 시에도 Deflater 네이티브 메모리 해제
+                    gzipOut.close();
+                }
+            } else {
+                recordExportService.export(targetUserNo, out);
+            }
+        };
+
+        String filename = "thinkeep-export-" + targetUserNo + (gzip ? ".ndjson.gz" : ".ndjson");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     /**
      * 특정 날짜 기록 조회
      * GET /api/records/{date}
@@ -207,10 +334,10 @@ public class RecordController {
     }
 
     /**
-     * 🆕 월별 감정 데이터 조회 (기존 API 활용)
+     * 🆕 월별 감정 데이터 조회
      * GET /api/records/emotions/{userNo}?year={year}&month={month}
      */
-    @Operation(summary = "월별 감정 데이터 조회", description = "특정 월의 감정 데이터를 조회합니다. 기존 API를 활용하여 월별 필터링을 수행합니다.")
+    @Operation(summary = "월별 감정 데이터 조회", description = "특정 월의 감정 데이터를 조회합니다. 해당 월 범위의 날짜별 감정만 DB에서 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "월별 감정 데이터 조회 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
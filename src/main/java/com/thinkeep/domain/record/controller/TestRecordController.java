@@ -1,12 +1,16 @@
 package com.thinkeep.domain.record.controller;
 
+import com.thinkeep.domain.record.dto.BulkSeedResponse;
 import com.thinkeep.domain.record.entity.Record;
 import com.thinkeep.domain.record.repository.RecordRepository;
+import com.thinkeep.domain.record.service.BulkSeedService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,6 +30,7 @@ import java.util.Optional;
 public class TestRecordController {
 
     private final RecordRepository recordRepository;
+    private final ObjectProvider<BulkSeedService> bulkSeedService;  // test 프로필에서만 등록됨
 
     /**
      * 테스트용 기록 생성
@@ -68,6 +73,38 @@ public class TestRecordController {
         }
     }
 
+    /**
+     * 성능 테스트용 대량 데이터 생성 (test 프로필 전용)
+     * POST /api/test/records/seed?users=1000&days=90&workers=4&quizzesPerDay=2
+     */
+    @Operation(summary = "대량 테스트 데이터 생성",
+            description = "사용자 N명 x M일치 기록/퀴즈/뱃지를 배치 INSERT로 생성하고 초당 행 수를 반환합니다. (test 프로필 전용)")
+    @PostMapping("/seed")
+    public ResponseEntity<?> seed(
+            @Parameter(description = "생성할 사용자 수") @RequestParam(defaultValue = "100") int users,
+            @Parameter(description = "사용자별 기록 일수 (어제까지 연속)") @RequestParam(defaultValue = "30") int days,
+            @Parameter(description = "병렬 워커 수") @RequestParam(defaultValue = "4") int workers,
+            @Parameter(description = "하루 출제 퀴즈 수 (0~2)") @RequestParam(defaultValue = "2") int quizzesPerDay) {
+        BulkSeedService seeder = bulkSeedService.getIfAvailable();
+        if (seeder == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("❌ 대량 데이터 생성은 test 프로필에서만 사용할 수 있습니다");
+        }
+
+        log.info("대량 데이터 생성 요청: users={}, days={}, workers={}, quizzesPerDay={}", users, days, workers, quizzesPerDay);
+
+        try {
+            BulkSeedResponse response = seeder.seed(users, days, workers, quizzesPerDay);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("❌ " + e.getMessage());
+        } catch (Exception e) {
+            log.error("대량 데이터 생성 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body("❌ 대량 데이터 생성 실패: " + e.getMessage());
+        }
+    }
+
     /**
      * 사용자별 기록 조회
      * GET /api/test/records/list?userNo=1
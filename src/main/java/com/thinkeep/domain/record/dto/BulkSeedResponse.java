@@ -0,0 +1,26 @@
+package com.thinkeep.domain.record.dto;
+
+import lombok.*;
+
+/**
+ * 성능 테스트용 대량 데이터 생성 결과 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkSeedResponse {
+
+    private String runId;          // 생성된 사용자 닉네임 접두어 (seed_{runId}_N)
+    private int workers;
+
+    private long users;
+    private long records;
+    private long quizzes;
+    private long badges;
+
+    private long totalRows;
+    private long elapsedMs;
+    private double rowsPerSecond;
+}
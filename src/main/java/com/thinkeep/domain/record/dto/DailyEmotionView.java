@@ -0,0 +1,14 @@
+package com.thinkeep.domain.record.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 월별 감정 캘린더용 프로젝션
+ * 날짜와 감정 컬럼만 조회 (answers 등 TEXT 컬럼 제외)
+ */
+public interface DailyEmotionView {
+
+    LocalDate getDate();
+
+    String getEmotion();
+}
@@ -0,0 +1,12 @@
+package com.thinkeep.domain.record.dto;
+
+/**
+ * 감정별 기록 수 집계 프로젝션
+ * GROUP BY emotion 결과 매핑용
+ */
+public interface EmotionCountView {
+
+    String getEmotion();
+
+    Long getCount();
+}
@@ -8,5 +8,5 @@ import lombok.Getter;
 @Builder
 public class RecordCreateResponse {
     private RecordResponse record;
-    private UserBadgeResponse newBadge;
+    private UserBadgeResponse newBadge; // 뱃지는 비동기 지급 -> 항상 null, GET /api/user-badges/{userNo}/latest 로 확인
 }
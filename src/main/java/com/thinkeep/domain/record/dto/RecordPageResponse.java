@@ -0,0 +1,38 @@
+package com.thinkeep.domain.record.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 일기 목록 페이지 응답 DTO
+ * (date, recordId) 기준 커서 페이지네이션 - 무한 스크롤용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecordPageResponse {
+
+    /**
+     * 이번 페이지 기록 (최신순)
+     */
+    private List<RecordResponse> records;
+
+    /**
+     * 다음 페이지 요청 시 cursor 파라미터로 전달할 값
+     * 마지막 페이지면 null
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private Integer size;
+}
@@ -0,0 +1,25 @@
+package com.thinkeep.domain.record.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 기록 목록 / 오늘 기록 상태 / 날짜별 조회용 프로젝션
+ * RecordResponse에 필요한 컬럼만 조회 (voice_text, editable_text, submitted_answer, person_name 등 TEXT 컬럼 제외)
+ */
+public interface RecordSummaryView {
+
+    Long getRecordId();
+
+    Long getUserNo();
+
+    LocalDate getDate();
+
+    String getAnswers();
+
+    String getEmotion();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
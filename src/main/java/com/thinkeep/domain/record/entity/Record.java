@@ -1,5 +1,6 @@
 package com.thinkeep.domain.record.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,7 +13,10 @@ import java.util.Map;
  * 기존 records 테이블 구조에 맞춰 생성
  */
 @Entity
-@Table(name = "records")
+@Table(name = "records", uniqueConstraints = {
+        // 사용자당 하루 1개 기록 보장 + (user_no, date) 조회/페이지네이션 인덱스 역할
+        @UniqueConstraint(name = "uk_records_user_date", columnNames = {"user_no", "date"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -62,6 +66,12 @@ public class Record {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // answers 디코딩 결과 메모 (DB 컬럼 아님)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private RecordAnswers parsedAnswers;
+
     // === JPA 생명주기 메서드 ===
     @PrePersist
     protected void onCreate() {
@@ -78,75 +88,34 @@ public class Record {
      * Map 형태의 답변을 JSON 문자열로 변환하여 저장
      */
     public void setAnswersFromMap(Map<String, String> answersMap) {
-        if (answersMap == null || answersMap.isEmpty()) {
-            this.answers = "{}";
-            return;
-        }
-
-        try {
-            // 간단한 JSON 구성 (org.json 없이)
-            StringBuilder json = new StringBuilder("{");
-            boolean first = true;
-            for (Map.Entry<String, String> entry : answersMap.entrySet()) {
-                if (!first) json.append(",");
-                json.append("\"").append(entry.getKey()).append("\":")
-                        .append("\"").append(escapeJson(entry.getValue())).append("\"");
-                first = false;
-            }
-            json.append("}");
-            this.answers = json.toString();
-        } catch (Exception e) {
-            this.answers = "{}";
-        }
+        this.answers = RecordAnswers.encode(answersMap);
     }
 
     /**
-     * JSON 문자열을 Map으로 파싱하여 반환
+     * 디코딩된 답변 (answers 문자열이 바뀌기 전까지 한 번만 파싱)
      */
-    public Map<String, String> getAnswersAsMap() {
-        Map<String, String> result = new java.util.HashMap<>();
-
-        if (this.answers == null || this.answers.trim().isEmpty()) {
-            return result;
-        }
-
-        try {
-            // 간단한 JSON 파싱 (기본적인 케이스만)
-            String json = this.answers.trim();
-            if (json.startsWith("{") && json.endsWith("}")) {
-                json = json.substring(1, json.length() - 1); // { } 제거
-
-                String[] pairs = json.split(",");
-                for (String pair : pairs) {
-                    String[] keyValue = pair.split(":");
-                    if (keyValue.length == 2) {
-                        String key = keyValue[0].trim().replaceAll("\"", "");
-                        String value = keyValue[1].trim().replaceAll("\"", "");
-                        result.put(key, value);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            // 파싱 실패시 빈 Map 반환
+    @JsonIgnore
+    public RecordAnswers getParsedAnswers() {
+        RecordAnswers parsed = this.parsedAnswers;
+        if (parsed == null || parsed.source() != this.answers) {
+            parsed = RecordAnswers.decode(this.answers);
+            this.parsedAnswers = parsed;
         }
-
-        return result;
+        return parsed;
     }
 
     /**
-     * 특정 질문의 답변만 조회
+     * JSON 문자열을 Map으로 파싱하여 반환 (읽기 전용)
      */
-    public String getAnswerByQuestion(String questionId) {
-        Map<String, String> answersMap = getAnswersAsMap();
-        return answersMap.getOrDefault(questionId, "");
+    public Map<String, String> getAnswersAsMap() {
+        return getParsedAnswers().asMap();
     }
 
     /**
-     * JSON 문자열 이스케이프 처리
+     * 특정 질문의 답변만 조회
      */
-    private String escapeJson(String value) {
-        if (value == null) return "";
-        return value.replace("\"", "\\\"").replace("\n", "\\n").replace("\r", "\\r");
+    public String getAnswerByQuestion(String questionId) {
+        return getParsedAnswers().get(questionId);
     }
 
     /**
@@ -160,33 +129,14 @@ public class Record {
      * 모든 필수 답변이 완료되었는지 확인 (감정 포함)
      */
     public boolean isComplete() {
-        Map<String, String> answersMap = getAnswersAsMap();
-
-        return isNotEmpty(answersMap.get("Q1")) &&
-                isNotEmpty(answersMap.get("Q2")) &&
-                isNotEmpty(answersMap.get("Q3")) &&
-                isNotEmpty(answersMap.get("Q4")) &&
-                isNotEmpty(this.emotion); // 🆕 감정도 완료 조건에 추가
+        return getParsedAnswers().isComplete(this.emotion);
     }
 
     /**
      * 답변한 질문 수 계산 (감정 포함)
      */
     public int getAnswerCount() {
-        Map<String, String> answersMap = getAnswersAsMap();
-        int count = 0;
-
-        if (isNotEmpty(answersMap.get("Q1"))) count++;
-        if (isNotEmpty(answersMap.get("Q2"))) count++;
-        if (isNotEmpty(answersMap.get("Q3"))) count++;
-        if (isNotEmpty(answersMap.get("Q4"))) count++;
-        if (isNotEmpty(this.emotion)) count++; // 🆕 감정 카운트 추가
-
-        return count;
-    }
-
-    private boolean isNotEmpty(String value) {
-        return value != null && !value.trim().isEmpty();
+        return getParsedAnswers().answerCount(this.emotion);
     }
 
     /**
@@ -0,0 +1,126 @@
+package com.thinkeep.domain.record.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * records.answers 컬럼(JSON 문자열) 코덱
+ * 한 번 디코딩한 결과를 불변 객체로 보관 -> Record에서 메모이즈해서 재사용
+ * 쉼표/콜론/따옴표가 들어간 답변도 Jackson으로 안전하게 처리
+ */
+public final class RecordAnswers {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] REQUIRED_QUESTIONS = {"Q1", "Q2", "Q3", "Q4"};
+
+    private final String source;
+    private final Map<String, String> answers;
+
+    private RecordAnswers(String source, Map<String, String> answers) {
+        this.source = source;
+        this.answers = answers;
+    }
+
+    /**
+     * JSON 문자열 -> 답변
+     * JSON으로 읽을 수 없는 예전 데이터는 기존 방식(쉼표/콜론 분리)으로 읽음
+     */
+    public static RecordAnswers decode(String json) {
+        if (json == null || json.isBlank()) {
+            return new RecordAnswers(json, Collections.emptyMap());
+        }
+
+        Map<String, String> result = new LinkedHashMap<>();
+        try {
+            JsonNode root = MAPPER.readTree(json);
+            if (root != null && root.isObject()) {
+                root.fields().forEachRemaining(entry ->
+                        result.put(entry.getKey(), entry.getValue().isNull() ? "" : entry.getValue().asText()));
+            }
+        } catch (JsonProcessingException e) {
+            result.clear();
+            parseLegacy(json, result);
+        }
+
+        return new RecordAnswers(json, Collections.unmodifiableMap(result));
+    }
+
+    /**
+     * 답변 -> JSON 문자열 (비어 있으면 "{}")
+     */
+    public static String encode(Map<String, String> answersMap) {
+        if (answersMap == null || answersMap.isEmpty()) {
+            return "{}";
+        }
+
+        Map<String, String> normalized = new LinkedHashMap<>();
+        answersMap.forEach((key, value) -> normalized.put(key, value == null ? "" : value));
+
+        try {
+            return MAPPER.writeValueAsString(normalized);
+        } catch (JsonProcessingException e) {
+            return "{}";
+        }
+    }
+
+    // 기존 간단 파서 (JSON 도입 전 저장된 깨진 형식 호환용)
+    private static void parseLegacy(String json, Map<String, String> result) {
+        String trimmed = json.trim();
+        if (!trimmed.startsWith("{") || !trimmed.endsWith("}")) {
+            return;
+        }
+
+        for (String pair : trimmed.substring(1, trimmed.length() - 1).split(",")) {
+            String[] keyValue = pair.split(":");
+            if (keyValue.length == 2) {
+                result.put(keyValue[0].trim().replace("\"", ""), keyValue[1].trim().replace("\"", ""));
+            }
+        }
+    }
+
+    /**
+     * 디코딩에 사용한 원본 문자열 (메모이즈 유효성 확인용)
+     */
+    String source() {
+        return source;
+    }
+
+    /**
+     * 읽기 전용 답변 Map
+     */
+    public Map<String, String> asMap() {
+        return answers;
+    }
+
+    public String get(String questionId) {
+        return answers.getOrDefault(questionId, "");
+    }
+
+    /**
+     * Q1~Q4 답변과 감정이 모두 채워졌는지 확인
+     */
+    public boolean isComplete(String emotion) {
+        return answerCount(emotion) == REQUIRED_QUESTIONS.length + 1;
+    }
+
+    /**
+     * 답변한 질문 수 (감정 포함)
+     */
+    public int answerCount(String emotion) {
+        int count = 0;
+        for (String questionId : REQUIRED_QUESTIONS) {
+            if (isNotEmpty(answers.get(questionId))) count++;
+        }
+        if (isNotEmpty(emotion)) count++;
+        return count;
+    }
+
+    private static boolean isNotEmpty(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,19 @@
+package com.thinkeep.domain.record.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일기 작성 완료 이벤트
+ * 트랜잭션 커밋 후 streak 증가 / 뱃지 지급을 비동기로 처리하기 위해 발행
+ */
+@Getter
+@RequiredArgsConstructor
+public class RecordCreatedEvent {
+
+    private final Long userNo;
+    private final Long recordId;
+    private final LocalDate date;
+}
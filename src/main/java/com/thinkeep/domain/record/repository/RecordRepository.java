@@ -1,7 +1,13 @@
 package com.thinkeep.domain.record.repository;
 
+import com.thinkeep.domain.record.dto.DailyEmotionView;
+import com.thinkeep.domain.record.dto.EmotionCountView;
+import com.thinkeep.domain.record.dto.RecordSummaryView;
 import com.thinkeep.domain.record.entity.Record;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -29,12 +35,57 @@ public interface RecordRepository extends JpaRepository<Record, Long> {
      */
     boolean existsByUserNoAndDate(Long userNo, LocalDate date);
 
+    /**
+     * 특정 사용자의 특정 날짜 기록 요약 조회
+     * 오늘 기록 상태 / 날짜별 조회용 (응답에 쓰지 않는 TEXT 컬럼 제외)
+     */
+    @Query("SELECT r.recordId AS recordId, r.userNo AS userNo, r.date AS date, r.answers AS answers, " +
+            "r.emotion AS emotion, r.createdAt AS createdAt, r.updatedAt AS updatedAt FROM Record r " +
+            "WHERE r.userNo = :userNo AND r.date = :date")
+    Optional<RecordSummaryView> findSummaryByUserNoAndDate(@Param("userNo") Long userNo,
+                                                           @Param("date") LocalDate date);
+
     /**
      * 특정 사용자의 모든 기록 조회 (최신순)
      * 기록 목록 표시용
      */
     List<Record> findByUserNoOrderByDateDesc(Long userNo);
 
+    /**
+     * 특정 사용자의 모든 기록 요약 조회 (최신순)
+     * 기록 목록 응답용 (응답에 쓰지 않는 TEXT 컬럼 제외)
+     */
+    @Query("SELECT r.recordId AS recordId, r.userNo AS userNo, r.date AS date, r.answers AS answers, " +
+            "r.emotion AS emotion, r.createdAt AS createdAt, r.updatedAt AS updatedAt FROM Record r " +
+            "WHERE r.userNo = :userNo ORDER BY r.date DESC")
+    List<RecordSummaryView> findSummariesByUserNo(@Param("userNo") Long userNo);
+
+    // === 커서 페이지네이션 (date DESC, recordId DESC) ===
+
+    /**
+     * 기록 목록 첫 페이지 (요약 컬럼만)
+     * 무한 스크롤 일기 목록용
+     */
+    @Query("SELECT r.recordId AS recordId, r.userNo AS userNo, r.date AS date, r.answers AS answers, " +
+            "r.emotion AS emotion, r.createdAt AS createdAt, r.updatedAt AS updatedAt FROM Record r " +
+            "WHERE r.userNo = :userNo " +
+            "ORDER BY r.date DESC, r.recordId DESC")
+    List<RecordSummaryView> findFirstPage(@Param("userNo") Long userNo, Limit limit);
+
+    /**
+     * 커서(date, recordId) 이후 페이지
+     * 앞 페이지 수와 관계없이 인덱스 범위 조회만 수행
+     */
+    @Query("SELECT r.recordId AS recordId, r.userNo AS userNo, r.date AS date, r.answers AS answers, " +
+            "r.emotion AS emotion, r.createdAt AS createdAt, r.updatedAt AS updatedAt FROM Record r " +
+            "WHERE r.userNo = :userNo " +
+            "AND (r.date < :date OR (r.date = :date AND r.recordId < :recordId)) " +
+            "ORDER BY r.date DESC, r.recordId DESC")
+    List<RecordSummaryView> findPageAfter(@Param("userNo") Long userNo,
+                                          @Param("date") LocalDate date,
+                                          @Param("recordId") Long recordId,
+                                          Limit limit);
+
     /**
      * 특정 사용자의 특정 기간 기록 조회
      * 퀴즈 생성용 (최근 3일 기록 조회)
@@ -45,12 +96,34 @@ public interface RecordRepository extends JpaRepository<Record, Long> {
 
     /**
      * 특정 사용자의 전체 기록 개수
-     * 통계용
-     *
-     * 현재 사용 안함
+     * 통계용, 누적 기록 수 뱃지 평가용
      */
     long countByUserNo(Long userNo);
 
+    // === 월별 감정 캘린더용 메서드 ===
+
+    /**
+     * 특정 기간의 날짜별 감정만 조회
+     * 월별 감정 캘린더용 (전체 기록 대신 해당 월의 date, emotion 컬럼만 조회)
+     */
+    @Query("SELECT r.date AS date, r.emotion AS emotion FROM Record r " +
+            "WHERE r.userNo = :userNo AND r.date BETWEEN :startDate AND :endDate " +
+            "ORDER BY r.date")
+    List<DailyEmotionView> findDailyEmotions(@Param("userNo") Long userNo,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * 특정 기간의 감정별 기록 수 집계
+     * 월별 감정 통계용
+     */
+    @Query("SELECT r.emotion AS emotion, COUNT(r) AS count FROM Record r " +
+            "WHERE r.userNo = :userNo AND r.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.emotion")
+    List<EmotionCountView> countEmotions(@Param("userNo") Long userNo,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
     // === 권한 확인용 메서드 ===
 
     /**
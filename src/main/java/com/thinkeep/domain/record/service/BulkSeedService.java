@@ -0,0 +1,394 @@
+package com.thinkeep.domain.record.service;
+
+import com.thinkeep.domain.badge.rule.BadgeMetric;
+import com.thinkeep.domain.badge.rule.BadgeRuleEngine;
+import com.thinkeep.domain.record.dto.BulkSeedResponse;
+import com.thinkeep.domain.record.entity.RecordAnswers;
+import com.thinkeep.global.jpa.IdGeneratorInitializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 성능 테스트용 대량 데이터 생성기 (test 프로필 전용)
+ * 사용자 N명 x M일치 기록 + 퀴즈 + 연속 기록 뱃지를 JDBC 배치 INSERT로 생성
+ * 사용자 구간을 워커 수만큼 나눠 워커별 커넥션으로 병렬 처리
+ * 퀴즈 ID는 Hibernate와 같은 id_generator에서 블록 단위로 예약 (사용자/기록은 AUTO_INCREMENT)
+ */
+@Service
+@Profile("test")
+@Slf4j
+public class BulkSeedService {
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (nickname, password, streak_count, last_record_date,
+                               badge_3_days_achieved, badge_7_days_achieved, badge_14_days_achieved, badge_30_days_achieved,
+                               created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String INSERT_RECORD = """
+            INSERT INTO records (user_no, date, answers, emotion, person_category, person_name, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String INSERT_QUIZ = """
+            INSERT INTO quizzes (quiz_id, record_id, user_no, context, question, answer, choices, user_answer,
+                                 is_correct, submitted_at, quiz_date, skipped, question_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String INSERT_USER_BADGE = """
+            INSERT INTO users_badges (user_no, badge_id, awarded_at) VALUES (?, ?, ?)""";
+
+    private static final String[] EMOTIONS = {"행복", "기쁨", "보통", "우울", "슬픔", "화남"};
+    private static final String[] WEATHER = {"맑은", "흐린", "비 오는", "바람 부는", "쌀쌀한", "따뜻한"};
+    private static final String[] PEOPLE = {
+            "엄마", "아빠", "딸", "아들", "손주", "친구 민수", "친구 영희", "대학 동기", "회사 동료", "옆집 이웃", "혼자"
+    };
+    private static final String[] FOODS = {
+            "김치찌개", "된장찌개", "비빔밥", "불고기", "잔치국수", "떡볶이", "삼계탕", "갈비탕", "잡채", "김밥"
+    };
+    private static final String[] ACTIVITIES = {
+            "공원 산책", "시장 구경", "영화 감상", "텃밭 가꾸기", "동네 카페", "등산", "복지관 노래교실", "손주와 영상통화", "사진 정리", "성당 모임"
+    };
+
+    private final DataSource dataSource;
+    private final BadgeRuleEngine badgeRuleEngine;
+    private final int batchSize;
+
+    public BulkSeedService(DataSource dataSource,
+                           BadgeRuleEngine badgeRuleEngine,
+                           @Value("${app.seed.batch-size:1000}") int batchSize) {
+        this.dataSource = dataSource;
+        this.badgeRuleEngine = badgeRuleEngine;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 대량 데이터 생성
+     * @param users          생성할 사용자 수
+     * @param days           사용자별 기록 일수 (어제까지 연속)
+     * @param workers        병렬 워커 수 (워커마다 커넥션 1개, ID 예약 후 데이터 INSERT)
+     * @param quizzesPerDay  둘째 날부터 하루에 출제된 퀴즈 수 (0~2)
+     */
+    public BulkSeedResponse seed(int users, int days, int workers, int quizzesPerDay) {
+        if (users < 1 || days < 1 || workers < 1 || quizzesPerDay < 0 || quizzesPerDay > 2) {
+            throw new IllegalArgumentException("users, days, workers는 1 이상, quizzesPerDay는 0~2여야 합니다");
+        }
+
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        List<Long> streakBadgeIds = streakBadgeIds(days);
+        Counts counts = new Counts();
+
+        log.info("🌱 대량 데이터 생성 시작: runId={}, users={}, days={}, workers={}, quizzesPerDay={}, streakBadges={}",
+                runId, users, days, workers, quizzesPerDay, streakBadgeIds);
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            int perWorker = (users + workers - 1) / workers;
+            for (int rangeFrom = 0; rangeFrom < users; rangeFrom += perWorker) {
+                int from = rangeFrom;
+                int to = Math.min(users, from + perWorker);
+                int worker = futures.size();
+                futures.add(executor.submit(() -> {
+                    seedRange(runId, worker, from, to, days, quizzesPerDay, streakBadgeIds, counts);
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대량 데이터 생성 실패: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대량 데이터 생성 중단", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long totalRows = counts.users.get() + counts.records.get() + counts.quizzes.get() + counts.badges.get();
+        double rowsPerSecond = elapsedMs == 0 ? totalRows : totalRows * 1000.0 / elapsedMs;
+
+        log.info("🌱 대량 데이터 생성 완료: runId={}, rows={}, elapsed={}ms, {} rows/sec",
+                runId, totalRows, elapsedMs, String.format("%.0f", rowsPerSecond));
+
+        return BulkSeedResponse.builder()
+                .runId(runId)
+                .workers(workers)
+                .users(counts.users.get())
+                .records(counts.records.get())
+                .quizzes(counts.quizzes.get())
+                .badges(counts.badges.get())
+                .totalRows(totalRows)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    // 연속 days일 기록한 사용자가 그동안 받았을 연속 기록 뱃지 (규칙 엔진 기준)
+    private List<Long> streakBadgeIds(int days) {
+        Set<Long> badgeIds = new LinkedHashSet<>();
+        for (int streak = 1; streak <= days; streak++) {
+            badgeIds.addAll(badgeRuleEngine.evaluate(BadgeMetric.STREAK, streak, 0));
+        }
+        return List.copyOf(badgeIds);
+    }
+
+    /**
+     * 워커 1개 분량: 사용자 [from, to) 구간을 배치 크기에 맞춰 나눠서 생성
+     * 묶음(사용자 + 기록 + 퀴즈 + 뱃지)마다 커밋
+     */
+    private void seedRange(String runId, int worker, int from, int to, int days, int quizzesPerDay,
+                           List<Long> streakBadgeIds, Counts counts) throws SQLException {
+        // 기록 배치 하나가 batchSize 행 정도가 되도록 사용자 묶음 크기 결정
+        int usersPerChunk = Math.max(1, batchSize / days);
+        Random random = new Random(Objects.hash(runId, worker));
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        // 구간 전체의 퀴즈 ID를 먼저 예약 -> 워커는 한 번에 커넥션 1개만 사용 (풀 고갈로 인한 교착 방지)
+        int quizCount = Math.multiplyExact(to - from, (days - 1) * quizzesPerDay);
+        IdBlock quizIds;
+        try (Connection idConnection = dataSource.getConnection()) {
+            idConnection.setAutoCommit(false);
+            try {
+                quizIds = new IdBlock(quizCount > 0
+                        ? IdGeneratorInitializer.allocate(idConnection, IdGeneratorInitializer.QUIZZES, quizCount)
+                        : 0);
+                idConnection.commit();
+            } catch (SQLException | RuntimeException e) {
+                idConnection.rollback();
+                throw e;
+            }
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            for (int chunkFrom = from; chunkFrom < to; chunkFrom += usersPerChunk) {
+                int chunkTo = Math.min(to, chunkFrom + usersPerChunk);
+
+                List<Long> userNos = insertUsers(connection, runId, chunkFrom, chunkTo, days, yesterday);
+                List<SeededRecord> records = insertRecords(connection, userNos, days, yesterday, random);
+                long quizzes = quizzesPerDay > 0 ? insertQuizzes(connection, quizIds, records, days, quizzesPerDay, random) : 0;
+                long badges = insertUserBadges(connection, userNos, streakBadgeIds, yesterday);
+                connection.commit();
+
+                counts.users.addAndGet(userNos.size());
+                counts.records.addAndGet(records.size());
+                counts.quizzes.addAndGet(quizzes);
+                counts.badges.addAndGet(badges);
+            }
+        }
+    }
+
+    private List<Long> insertUsers(Connection connection, String runId, int from, int to,
+                                   int days, LocalDate yesterday) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_USER, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = from; i < to; i++) {
+                statement.setString(1, "seed_" + runId + "_" + i);
+                statement.setString(2, "password");
+                statement.setInt(3, days);
+                statement.setDate(4, java.sql.Date.valueOf(yesterday));
+                statement.setBoolean(5, days >= 3);
+                statement.setBoolean(6, days >= 7);
+                statement.setBoolean(7, days >= 14);
+                statement.setBoolean(8, days >= 30);
+                statement.setTimestamp(9, now);
+                statement.setTimestamp(10, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            return generatedKeys(statement, to - from);
+        }
+    }
+
+    // 사용자별 days일치 기록 (어제까지 연속), batchSize 단위로 나눠 실행
+    private List<SeededRecord> insertRecords(Connection connection, List<Long> userNos, int days,
+                                             LocalDate yesterday, Random random) throws SQLException {
+        List<SeededRecord> records = new ArrayList<>(userNos.size() * days);
+        for (Long userNo : userNos) {
+            for (int daysAgo = days - 1; daysAgo >= 0; daysAgo--) {
+                records.add(new SeededRecord(userNo, yesterday.minusDays(daysAgo), answers(random), pick(EMOTIONS, random)));
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_RECORD, Statement.RETURN_GENERATED_KEYS)) {
+            for (int start = 0; start < records.size(); start += batchSize) {
+                List<SeededRecord> batch = records.subList(start, Math.min(records.size(), start + batchSize));
+                for (SeededRecord record : batch) {
+                    Timestamp writtenAt = Timestamp.valueOf(LocalDateTime.of(record.date, LocalTime.of(21, 0)));
+                    String q2Answer = record.answers.get("Q2");
+
+                    statement.setLong(1, record.userNo);
+                    statement.setDate(2, java.sql.Date.valueOf(record.date));
+                    statement.setString(3, RecordAnswers.encode(record.answers));
+                    statement.setString(4, record.emotion);
+                    statement.setString(5, RecordService.extractPersonCategory(q2Answer));
+                    statement.setString(6, q2Answer);
+                    statement.setTimestamp(7, writtenAt);
+                    statement.setTimestamp(8, writtenAt);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> recordIds = generatedKeys(statement, batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).recordId = recordIds.get(i);
+                }
+            }
+        }
+        return records;
+    }
+
+    // 둘째 날부터 최근 3일 기록 중 하나로 하루 quizzesPerDay개 출제 + 제출 완료 상태
+    private long insertQuizzes(Connection connection, IdBlock quizIds, List<SeededRecord> records, int days,
+                               int quizzesPerDay, Random random) throws SQLException {
+        long inserted = 0;
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_QUIZ)) {
+            int pending = 0;
+            for (int i = 0; i < records.size(); i++) {
+                int dayIndex = i % days;          // 사용자별로 days개씩 날짜 오름차순
+                if (dayIndex == 0) {
+                    continue;
+                }
+
+                SeededRecord today = records.get(i);
+                for (int q = 0; q < quizzesPerDay; q++) {
+                    SeededRecord source = records.get(i - 1 - random.nextInt(Math.min(3, dayIndex)));
+                    String questionId = q == 0 ? "Q2" : (random.nextBoolean() ? "Q3" : "Q4");
+                    String answer = source.answers.get(questionId);
+                    boolean skipped = random.nextInt(10) == 0;
+                    boolean correct = !skipped && random.nextInt(4) != 0;
+                    Timestamp submittedAt = Timestamp.valueOf(LocalDateTime.of(today.date, LocalTime.of(10, 0)));
+
+                    statement.setLong(1, quizIds.next());
+                    statement.setLong(2, source.recordId);
+                    statement.setLong(3, today.userNo);
+                    statement.setString(4, "기록 기반 회상 퀴즈");
+                    statement.setString(5, source.date + "에 있었던 일을 떠올려 보세요. 어떤 것이었나요?");
+                    statement.setString(6, answer);
+                    statement.setString(7, String.join("||", answer, "다른 보기 1", "다른 보기 2"));
+                    statement.setString(8, skipped ? null : (correct ? answer : "다른 보기 1"));
+                    statement.setBoolean(9, correct);
+                    statement.setTimestamp(10, submittedAt);
+                    statement.setDate(11, java.sql.Date.valueOf(today.date));
+                    statement.setBoolean(12, skipped);
+                    statement.setString(13, questionId);
+                    statement.addBatch();
+
+                    if (++pending == batchSize) {
+                        statement.executeBatch();
+                        inserted += pending;
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                inserted += pending;
+            }
+        }
+        return inserted;
+    }
+
+    private long insertUserBadges(Connection connection, List<Long> userNos, List<Long> badgeIds,
+                                  LocalDate yesterday) throws SQLException {
+        if (badgeIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp awardedAt = Timestamp.valueOf(LocalDateTime.of(yesterday, LocalTime.of(21, 0)));
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_USER_BADGE)) {
+            for (Long userNo : userNos) {
+                for (Long badgeId : badgeIds) {
+                    statement.setLong(1, userNo);
+                    statement.setLong(2, badgeId);
+                    statement.setTimestamp(3, awardedAt);
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        return (long) userNos.size() * badgeIds.size();
+    }
+
+    private List<Long> generatedKeys(Statement statement, int expected) throws SQLException {
+        List<Long> keys = new ArrayList<>(expected);
+        try (ResultSet resultSet = statement.getGeneratedKeys()) {
+            while (resultSet.next()) {
+                keys.add(resultSet.getLong(1));
+            }
+        }
+        if (keys.size() != expected) {
+            throw new IllegalStateException("생성된 키 개수 불일치: expected=" + expected + ", actual=" + keys.size());
+        }
+        return keys;
+    }
+
+    private static Map<String, String> answers(Random random) {
+        Map<String, String> answers = new LinkedHashMap<>();
+        answers.put("Q1", pick(WEATHER, random) + " 날이라 " + pick(ACTIVITIES, random) + "을(를) 다녀왔어요");
+        answers.put("Q2", pick(PEOPLE, random));
+        answers.put("Q3", pick(FOODS, random));
+        answers.put("Q4", pick(ACTIVITIES, random));
+        return answers;
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static class SeededRecord {
+
+        private final Long userNo;
+        private final LocalDate date;
+        private final Map<String, String> answers;
+        private final String emotion;
+        private Long recordId;
+
+        SeededRecord(Long userNo, LocalDate date, Map<String, String> answers, String emotion) {
+            this.userNo = userNo;
+            this.date = date;
+            this.answers = answers;
+            this.emotion = emotion;
+        }
+    }
+
+    // 미리 예약한 ID 범위에서 순서대로 꺼내 쓰기 (워커 스레드 전용)
+    private static class IdBlock {
+
+        private long nextId;
+
+        IdBlock(long firstId) {
+            this.nextId = firstId;
+        }
+
+        long next() {
+            return nextId++;
+        }
+    }
+
+    private static class Counts {
+
+        private final AtomicLong users = new AtomicLong();
+        private final AtomicLong records = new AtomicLong();
+        private final AtomicLong quizzes = new AtomicLong();
+        private final AtomicLong badges = new AtomicLong();
+    }
+}
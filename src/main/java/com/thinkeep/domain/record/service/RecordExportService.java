@@ -0,0 +1,191 @@
+package com.thinkeep.domain.record.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thinkeep.domain.record.entity.RecordAnswers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 사용자 전체 데이터(기록, 퀴즈, 뱃지) NDJSON 내보내기
+ * 엔티티로 올리지 않고 전진 전용 JDBC 커서에서 읽은 행을 바로 JSON 한 줄로 기록
+ * -> 기록 수와 관계없이 메모리 사용량 일정
+ */
+@Service
+@Slf4j
+public class RecordExportService {
+
+    private static final String RECORDS_SQL = """
+            SELECT record_id, date, emotion, answers, person_category, person_name,
+                   voice_text, editable_text, submitted_answer, created_at, updated_at
+            FROM records WHERE user_no = ? ORDER BY date, record_id""";
+
+    private static final String QUIZZES_SQL = """
+            SELECT quiz_id, record_id, question_id, quiz_date, question, choices, answer,
+                   user_answer, is_correct, skipped, submitted_at
+            FROM quizzes WHERE user_no = ? ORDER BY quiz_id""";
+
+    private static final String BADGES_SQL = """
+            SELECT ub.badge_id, b.name, b.description, ub.awarded_at
+            FROM users_badges ub JOIN badges b ON b.badge_id = ub.badge_id
+            WHERE ub.user_no = ? ORDER BY ub.awarded_at""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public RecordExportService(DataSource dataSource,
+                               ObjectMapper objectMapper,
+                               @Value("${app.export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize,
+                               @Value("${spring.datasource.url:}") String datasourceUrl) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL은 fetchSize = Integer.MIN_VALUE 일 때 행 단위 스트리밍
+        // 음수 fetchSize를 거부하는 다른 DB(H2 등)에서는 드라이버 기본값 사용
+        if (fetchSize >= 0 || datasourceUrl.startsWith("jdbc:mysql:")) {
+            this.jdbcTemplate.setFetchSize(fetchSize);
+        } else {
+            log.info("MySQL이 아니므로 내보내기 스트리밍 fetchSize 미적용: fetchSize={}", fetchSize);
+        }
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 사용자 데이터를 NDJSON으로 출력 스트림에 기록
+     * 첫 줄은 meta, 이후 record -> quiz -> badge 순서로 한 줄에 하나씩
+     */
+    public void export(Long userNo, OutputStream out) throws IOException {
+        log.info("데이터 내보내기 시작: userNo={}", userNo);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            generator.writeStartObject();
+            generator.writeStringField("type", "meta");
+            generator.writeNumberField("userNo", userNo);
+            generator.writeStringField("exportedAt", LocalDateTime.now().toString());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            long records = stream(RECORDS_SQL, userNo, rs -> writeRecord(generator, rs));
+            long quizzes = stream(QUIZZES_SQL, userNo, rs -> writeQuiz(generator, rs));
+            long badges = stream(BADGES_SQL, userNo, rs -> writeBadge(generator, rs));
+
+            generator.flush();
+            log.info("데이터 내보내기 완료: userNo={}, 기록={}, 퀴즈={}, 뱃지={}", userNo, records, quizzes, badges);
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 실패
+            throw e.getCause();
+        }
+    }
+
+    private long stream(String sql, Long userNo, RowWriter writer) {
+        long[] count = {0};
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            try {
+                writer.write(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        }, userNo);
+        return count[0];
+    }
+
+    private void writeRecord(JsonGenerator generator, ResultSet rs) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "record");
+        generator.writeNumberField("recordId", rs.getLong("record_id"));
+        generator.writeStringField("date", String.valueOf(rs.getDate("date").toLocalDate()));
+        generator.writeStringField("emotion", rs.getString("emotion"));
+
+        generator.writeObjectFieldStart("answers");
+        for (Map.Entry<String, String> answer : RecordAnswers.decode(rs.getString("answers")).asMap().entrySet()) {
+            generator.writeStringField(answer.getKey(), answer.getValue());
+        }
+        generator.writeEndObject();
+
+        generator.writeStringField("personCategory", rs.getString("person_category"));
+        generator.writeStringField("personName", rs.getString("person_name"));
+        generator.writeStringField("voiceText", rs.getString("voice_text"));
+        generator.writeStringField("editableText", rs.getString("editable_text"));
+        generator.writeStringField("submittedAnswer", rs.getString("submitted_answer"));
+        generator.writeStringField("createdAt", toText(rs.getTimestamp("created_at")));
+        generator.writeStringField("updatedAt", toText(rs.getTimestamp("updated_at")));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeQuiz(JsonGenerator generator, ResultSet rs) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "quiz");
+        generator.writeNumberField("quizId", rs.getLong("quiz_id"));
+        writeNullableLong(generator, "recordId", rs.getLong("record_id"), rs.wasNull());
+        generator.writeStringField("questionId", rs.getString("question_id"));
+        java.sql.Date quizDate = rs.getDate("quiz_date");
+        generator.writeStringField("quizDate", quizDate != null ? quizDate.toLocalDate().toString() : null);
+        generator.writeStringField("question", rs.getString("question"));
+
+        generator.writeArrayFieldStart("choices");
+        String choices = rs.getString("choices");
+        if (choices != null && !choices.isEmpty()) {
+            for (String choice : choices.split("\\|\\|")) {
+                generator.writeString(choice);
+            }
+        }
+        generator.writeEndArray();
+
+        generator.writeStringField("answer", rs.getString("answer"));
+        generator.writeStringField("userAnswer", rs.getString("user_answer"));
+        boolean isCorrect = rs.getBoolean("is_correct");
+        if (rs.wasNull()) {
+            generator.writeNullField("isCorrect");
+        } else {
+            generator.writeBooleanField("isCorrect", isCorrect);
+        }
+        generator.writeBooleanField("skipped", rs.getBoolean("skipped"));
+        generator.writeStringField("submittedAt", toText(rs.getTimestamp("submitted_at")));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeBadge(JsonGenerator generator, ResultSet rs) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "badge");
+        generator.writeNumberField("badgeId", rs.getLong("badge_id"));
+        generator.writeStringField("name", rs.getString("name"));
+        generator.writeStringField("description", rs.getString("description"));
+        generator.writeStringField("awardedAt", toText(rs.getTimestamp("awarded_at")));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeNullableLong(JsonGenerator generator, String field, long value, boolean isNull) throws IOException {
+        if (isNull) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private String toText(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
@@ -1,16 +1,24 @@
 package com.thinkeep.domain.record.service;
 
-import com.thinkeep.domain.badge.dto.UserBadgeResponse;
 import com.thinkeep.domain.record.dto.*;
 import com.thinkeep.domain.record.entity.Record;
+import com.thinkeep.domain.record.entity.RecordAnswers;
+import com.thinkeep.domain.record.event.RecordCreatedEvent;
 import com.thinkeep.domain.record.repository.RecordRepository;
-import com.thinkeep.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -22,8 +30,12 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RecordService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String RECORD_UNIQUE_KEY = "uk_records_user_date";
+
     private final RecordRepository recordRepository;
-    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========================================
     // 1. 핵심 비즈니스 로직: 일기 작성
@@ -33,11 +45,10 @@ public class RecordService {
      * 오늘 일기 작성
      *
      * 주요 로직:
-     * 1. 오늘 이미 기록했는지 확인
-     * 2. 요청 데이터 검증
-     * 3. Record 엔티티 생성 및 저장
-     * 4. 사용자 streak 카운트 증가
-     * 5. 응답 DTO 변환
+     * 1. 요청 데이터 검증
+     * 2. Record 엔티티 생성 및 저장 (하루 1개는 (user_no, date) 유니크 키로 보장)
+     * 3. 일기 작성 이벤트 발행 (커밋 후 streak 증가 / 뱃지 지급 비동기 처리)
+     * 4. 응답 DTO 변환
      */
     @Transactional
     public RecordCreateResponse createTodayRecord(Long userNo, RecordCreateRequest request) {
@@ -46,34 +57,32 @@ public class RecordService {
         // 1. 기본 검증
         validateCreateRequest(userNo, request);
 
-        // 2. 오늘 이미 기록했는지 확인
+        // 2. Record 엔티티 생성
         LocalDate today = LocalDate.now();
-        if (recordRepository.existsByUserNoAndDate(userNo, today)) {
-            throw new IllegalStateException("오늘은 이미 기록을 작성하셨습니다");
-        }
-
-        // 3. Record 엔티티 생성
         Record record = buildRecordEntity(userNo, today, request);
 
-        // 4. 데이터베이스 저장
-        Record savedRecord = recordRepository.save(record);
-        log.info("일기 저장 완료: recordId={}, emotion={}", savedRecord.getRecordId(), savedRecord.getEmotion());
-
-        // 5. 사용자 streak 카운트 증가 및 뱃지 지급 확인
-        UserBadgeResponse badgeResponse = null;
+        // 3. 데이터베이스 저장 - 사전 존재 확인 없이 INSERT 한 번, 중복은 유니크 키 위반으로 판단
+        Record savedRecord;
         try {
-            badgeResponse = userService.increaseStreakCount(userNo);
-            log.info("Streak 카운트 증가 완료: userNo={}, badge={}",
-                    userNo, badgeResponse != null ? badgeResponse.getBadgeId() : "없음");
-        } catch (Exception e) {
-            log.warn("Streak 카운트 증가 실패: {}", e.getMessage());
-            // 일기 저장은 유지
+            savedRecord = recordRepository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException e) {
+            // (user_no, date) 유니크 키 위반만 중복 작성으로 처리, NOT NULL / 길이 위반 등은 그대로 전파
+            if (!isDuplicateRecordViolation(e)) {
+                throw e;
+            }
+            log.warn("일기 중복 작성 시도: userNo={}, date={}", userNo, today);
+            throw new IllegalStateException("오늘은 이미 기록을 작성하셨습니다");
         }
+        log.info("일기 저장 완료: recordId={}, emotion={}", savedRecord.getRecordId(), savedRecord.getEmotion());
+
+        // 4. streak 증가 및 뱃지 지급은 커밋 후 비동기 처리 (StreakEventListener)
+        eventPublisher.publishEvent(new RecordCreatedEvent(userNo, savedRecord.getRecordId(), today));
 
-        // 6. 응답 DTO 변환
+        // 5. 응답 DTO 변환
+        // 새 뱃지는 비동기로 지급되므로 GET /api/user-badges/{userNo}/latest 로 확인
         return RecordCreateResponse.builder()
                 .record(convertToResponse(savedRecord))
-                .newBadge(badgeResponse) // null이면 뱃지 없음
+                .newBadge(null)
                 .build();
     }
 
@@ -135,7 +144,7 @@ public class RecordService {
     /**
      * Q2 답변에서 사람 카테고리 자동 추출
      */
-    private String extractPersonCategory(String q2Answer) {
+    static String extractPersonCategory(String q2Answer) {
         if (q2Answer == null) return "기타";
 
         String answer = q2Answer.toLowerCase();
@@ -171,17 +180,17 @@ public class RecordService {
         log.info("오늘 기록 상태 조회: userNo={}", userNo);
 
         LocalDate today = LocalDate.now();
-        Optional<Record> todayRecord = recordRepository.findByUserNoAndDate(userNo, today);
+        Optional<RecordSummaryView> todayRecord = recordRepository.findSummaryByUserNoAndDate(userNo, today);
 
         if (todayRecord.isPresent()) {
             // 오늘 기록이 있는 경우
-            Record record = todayRecord.get();
+            RecordResponse record = convertToResponse(todayRecord.get());
             boolean isComplete = record.isComplete();
 
             return TodayRecordStatus.builder()
                     .hasRecord(true)
                     .date(today)
-                    .record(convertToResponse(record))
+                    .record(record)
                     .canCreate(false)
                     .canEdit(true)
                     .statusMessage(isComplete ? "오늘 기록을 완료했어요! 🎉" : "오늘 기록이 진행 중이에요")
@@ -211,7 +220,7 @@ public class RecordService {
     public Optional<RecordResponse> getRecordByDate(Long userNo, LocalDate date) {
         log.info("날짜별 기록 조회: userNo={}, date={}", userNo, date);
 
-        return recordRepository.findByUserNoAndDate(userNo, date)
+        return recordRepository.findSummaryByUserNoAndDate(userNo, date)
                 .map(this::convertToResponse);
     }
 
@@ -221,7 +230,7 @@ public class RecordService {
     public List<RecordResponse> getAllRecordsByUser(Long userNo) {
         log.info("사용자 전체 기록 조회: userNo={}", userNo);
 
-        List<Record> records = recordRepository.findByUserNoOrderByDateDesc(userNo);
+        List<RecordSummaryView> records = recordRepository.findSummariesByUserNo(userNo);
 
         log.info("조회된 기록 수: {}", records.size());
 
@@ -230,40 +239,73 @@ public class RecordService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 일기 목록 페이지 조회 (최신순, 커서 기반)
+     * size + 1건을 조회해서 다음 페이지 존재 여부 판단
+     */
+    public RecordPageResponse getRecordPage(Long userNo, String cursor, Integer size) {
+        int pageSize = normalizePageSize(size);
+        log.info("기록 페이지 조회: userNo={}, cursor={}, size={}", userNo, cursor, pageSize);
+
+        Limit limit = Limit.of(pageSize + 1);
+        List<RecordSummaryView> records;
+        if (cursor == null || cursor.isBlank()) {
+            records = recordRepository.findFirstPage(userNo, limit);
+        } else {
+            RecordCursor decoded = RecordCursor.decode(cursor);
+            records = recordRepository.findPageAfter(userNo, decoded.date(), decoded.recordId(), limit);
+        }
+
+        boolean hasNext = records.size() > pageSize;
+        if (hasNext) {
+            records = records.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            RecordSummaryView last = records.get(records.size() - 1);
+            nextCursor = new RecordCursor(last.getDate(), last.getRecordId()).encode();
+        }
+
+        return RecordPageResponse.builder()
+                .records(records.stream().map(this::convertToResponse).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+
     /**
      * 🆕 월별 감정 데이터 조회
-     * 기존 getAllRecordsByUser를 활용하여 월별 필터링 및 감정 변환
+     * 해당 월 범위의 (date, emotion)만 조회하고 감정별 통계는 DB에서 집계
      */
     public MonthlyEmotionResponse getMonthlyEmotions(Long userNo, int year, int month) {
         log.info("월별 감정 데이터 조회: userNo={}, year={}, month={}", userNo, year, month);
 
-        // 1. 사용자의 모든 일기 조회
-        List<Record> allRecords = recordRepository.findByUserNoOrderByDateDesc(userNo);
+        // 1. 해당 월의 날짜 범위 계산
+        YearMonth yearMonth = YearMonth.of(year, month);
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
 
-        // 2. 해당 월의 일기만 필터링
-        List<Record> monthlyRecords = allRecords.stream()
-                .filter(record -> {
-                    LocalDate recordDate = record.getDate();
-                    return recordDate.getYear() == year && recordDate.getMonthValue() == month;
-                })
-                .collect(Collectors.toList());
+        // 2. 해당 월의 날짜별 감정만 조회
+        List<DailyEmotionView> dailyEmotions = recordRepository.findDailyEmotions(userNo, startDate, endDate);
 
-        log.info("해당 월 기록 수: {}", monthlyRecords.size());
+        log.info("해당 월 기록 수: {}", dailyEmotions.size());
 
         // 3. 날짜별 감정 맵 생성
-        Map<String, String> emotions = monthlyRecords.stream()
+        Map<String, String> emotions = dailyEmotions.stream()
                 .collect(Collectors.toMap(
-                        record -> record.getDate().toString(), // "2025-07-01"
-                        record -> convertKoreanToEnglish(record.getEmotion()), // "행복" -> "happy"
+                        daily -> daily.getDate().toString(), // "2025-07-01"
+                        daily -> convertKoreanToEnglish(daily.getEmotion()), // "행복" -> "happy"
                         (existing, replacement) -> existing // 중복 키 처리
                 ));
 
-        // 4. 감정별 통계 생성
-        Map<String, Integer> emotionStats = monthlyRecords.stream()
-                .map(record -> convertKoreanToEnglish(record.getEmotion()))
-                .collect(Collectors.groupingBy(
-                        emotion -> emotion,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
+        // 4. 감정별 통계 생성 (DB 집계 결과를 영어 감정 기준으로 합산)
+        Map<String, Integer> emotionStats = recordRepository.countEmotions(userNo, startDate, endDate).stream()
+                .collect(Collectors.toMap(
+                        count -> convertKoreanToEnglish(count.getEmotion()),
+                        count -> count.getCount().intValue(),
+                        Integer::sum
                 ));
 
         // 5. 가장 많이 나타난 감정 찾기
@@ -278,7 +320,7 @@ public class RecordService {
                 .year(year)
                 .month(month)
                 .emotions(emotions)
-                .totalRecords(monthlyRecords.size())
+                .totalRecords(dailyEmotions.size())
                 .emotionStats(emotionStats)
                 .dominantEmotion(dominantEmotion)
                 .timestamp(java.time.LocalDateTime.now().toString())
@@ -288,7 +330,7 @@ public class RecordService {
     /**
      * 한글 감정을 영어로 변환
      */
-    private String convertKoreanToEnglish(String koreanEmotion) {
+    static String convertKoreanToEnglish(String koreanEmotion) {
         if (koreanEmotion == null) return "none";
 
         return switch (koreanEmotion.trim()) {
@@ -355,24 +397,87 @@ public class RecordService {
     // 4. 유틸리티 메서드들
     // ========================================
 
+    /**
+     * 위반된 제약 조건이 하루 1개 기록 유니크 키인지 확인
+     * 제약 조건 이름은 DB마다 형식이 달라(MySQL: uk_..., H2: PUBLIC.UK_... 등) 대소문자 무시 포함 여부로 비교
+     */
+    private boolean isDuplicateRecordViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return containsRecordUniqueKey(violation.getConstraintName());
+            }
+        }
+        return containsRecordUniqueKey(e.getMostSpecificCause().getMessage());
+    }
+
+    private boolean containsRecordUniqueKey(String text) {
+        return text != null && text.toLowerCase().contains(RECORD_UNIQUE_KEY);
+    }
+
+    private int normalizePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다");
+        }
+        return size;
+    }
+
+    /**
+     * 페이지 커서 (마지막 기록의 date, recordId)
+     * 클라이언트에는 Base64 URL-safe 문자열로 전달
+     */
+    private record RecordCursor(LocalDate date, Long recordId) {
+
+        String encode() {
+            String raw = date + "_" + recordId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static RecordCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("_", 2);
+                return new RecordCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다");
+            }
+        }
+    }
+
     /**
      * Record Entity를 RecordResponse DTO로 변환 (감정 포함)
      */
     private RecordResponse convertToResponse(Record record) {
-        Map<String, String> answers = record.getAnswersAsMap();
+        return buildResponse(record.getRecordId(), record.getUserNo(), record.getDate(), record.getParsedAnswers(),
+                record.getEmotion(), record.getCreatedAt(), record.getUpdatedAt());
+    }
+
+    /**
+     * 요약 프로젝션을 RecordResponse DTO로 변환 (목록 / 오늘 상태 / 날짜별 조회)
+     */
+    private RecordResponse convertToResponse(RecordSummaryView view) {
+        return buildResponse(view.getRecordId(), view.getUserNo(), view.getDate(), RecordAnswers.decode(view.getAnswers()),
+                view.getEmotion(), view.getCreatedAt(), view.getUpdatedAt());
+    }
+
+    private RecordResponse buildResponse(Long recordId, Long userNo, LocalDate date, RecordAnswers answers,
+                                         String emotion, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        boolean isComplete = answers.isComplete(emotion);
 
         return RecordResponse.builder()
-                .recordId(record.getRecordId())
-                .userNo(record.getUserNo())
-                .date(record.getDate())
-                .answers(answers)
-                .emotion(record.getEmotion()) // 🆕 감정 추가
-                .isComplete(record.isComplete())
-                .isToday(record.isToday())
-                .createdAt(record.getCreatedAt())
-                .updatedAt(record.getUpdatedAt())
-                .answerCount(record.getAnswerCount())
-                .statusMessage(record.isComplete() ? "완료" : "진행 중")
+                .recordId(recordId)
+                .userNo(userNo)
+                .date(date)
+                .answers(answers.asMap())
+                .emotion(emotion) // 🆕 감정 추가
+                .isComplete(isComplete)
+                .isToday(LocalDate.now().equals(date))
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .answerCount(answers.answerCount(emotion))
+                .statusMessage(isComplete ? "완료" : "진행 중")
                 .build();
     }
-}
\ No newline at end of file
+}
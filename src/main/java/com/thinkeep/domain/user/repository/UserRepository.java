@@ -4,10 +4,13 @@ package com.thinkeep.domain.user.repository;
 
 import com.thinkeep.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -57,4 +60,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT COUNT(u) FROM User u WHERE u.streakCount >= :streakCount")
     long countByStreakCountGreaterThanEqual(@Param("streakCount") Integer streakCount);
+
+    /**
+     * 오늘 출석 반영 (조건부 단일 UPDATE)
+     * 어제 기록했으면 streak + 1, 아니면 1로 초기화
+     * 오늘 이미 반영된 경우 갱신하지 않음 -> 동시/중복 호출에도 한 번만 증가
+     * 더 최근 날짜가 이미 반영돼 있으면(늦게 처리된 이벤트) 갱신하지 않음 -> streak이 과거 날짜로 되돌아가지 않음
+     * @return 갱신된 행 수 (0이면 사용자 없음 또는 해당 날짜 이후 이미 반영)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE users SET " +
+            "streak_count = CASE WHEN last_record_date = :yesterday THEN streak_count + 1 ELSE 1 END, " +
+            "last_record_date = :today, " +
+            "updated_at = :now " +
+            "WHERE user_no = :userNo " +
+            "AND (last_record_date IS NULL OR last_record_date < :today)", nativeQuery = true)
+    int increaseStreakCount(@Param("userNo") Long userNo,
+                            @Param("today") LocalDate today,
+                            @Param("yesterday") LocalDate yesterday,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 현재 스트릭 카운트만 조회
+     * @param userNo 사용자 번호
+     * @return 스트릭 카운트
+     */
+    @Query("SELECT u.streakCount FROM User u WHERE u.userNo = :userNo")
+    Optional<Integer> findStreakCountByUserNo(@Param("userNo") Long userNo);
 }
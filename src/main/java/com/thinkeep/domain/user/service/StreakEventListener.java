@@ -0,0 +1,51 @@
+package com.thinkeep.domain.user.service;
+
+import com.thinkeep.domain.badge.dto.UserBadgeResponse;
+import com.thinkeep.domain.badge.rule.BadgeMetric;
+import com.thinkeep.domain.badge.service.BadgeAwardService;
+import com.thinkeep.domain.record.event.RecordCreatedEvent;
+import com.thinkeep.domain.record.repository.RecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 일기 작성 이벤트 처리
+ * 기록 저장 트랜잭션이 커밋된 뒤 전용 스레드 풀에서 streak 증가 및 뱃지(연속 기록, 누적 기록 수) 지급
+ * (일기 작성 요청은 기록 INSERT만 기다림)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StreakEventListener {
+
+    private final UserService userService;
+    private final BadgeAwardService badgeAwardService;
+    private final RecordRepository recordRepository;
+
+    @Async("streakExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordCreated(RecordCreatedEvent event) {
+        try {
+            UserBadgeResponse badgeResponse = userService.increaseStreakCount(event.getUserNo(), event.getDate());
+            log.info("Streak 카운트 증가 완료: userNo={}, recordId={}, badge={}",
+                    event.getUserNo(), event.getRecordId(),
+                    badgeResponse != null ? badgeResponse.getBadgeId() : "없음");
+        } catch (Exception e) {
+            // 일기 저장은 이미 커밋됨
+            log.warn("Streak 카운트 증가 실패: userNo={}, recordId={}, error={}",
+                    event.getUserNo(), event.getRecordId(), e.getMessage());
+        }
+
+        try {
+            // 누적 기록 수 뱃지 (규칙이 있을 때만 기록 수 조회)
+            badgeAwardService.awardIfRulesExist(event.getUserNo(), BadgeMetric.RECORD_COUNT,
+                    () -> recordRepository.countByUserNo(event.getUserNo()));
+        } catch (Exception e) {
+            log.warn("기록 수 뱃지 평가 실패: userNo={}, error={}", event.getUserNo(), e.getMessage());
+        }
+    }
+}
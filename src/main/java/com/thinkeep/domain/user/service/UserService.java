@@ -1,14 +1,10 @@
 package com.thinkeep.domain.user.service;
 
 
-import com.thinkeep.domain.badge.dto.UserBadgeRequest;
+import com.thinkeep.domain.Auth.service.RefreshTokenService;
 import com.thinkeep.domain.badge.dto.UserBadgeResponse;
-import com.thinkeep.domain.badge.entity.Badge;
-import com.thinkeep.domain.badge.entity.UserBadge;
-import com.thinkeep.domain.badge.entity.UserBadgeId;
-import com.thinkeep.domain.badge.repository.BadgeRepository;
-import com.thinkeep.domain.badge.repository.UserBadgeRepository;
-import com.thinkeep.domain.badge.service.UserBadgeService;
+import com.thinkeep.domain.badge.rule.BadgeMetric;
+import com.thinkeep.domain.badge.service.BadgeAwardService;
 import com.thinkeep.domain.user.dto.CreateRequest;
 import com.thinkeep.domain.user.dto.Response;
 import com.thinkeep.domain.user.dto.UpdateRequest;
@@ -24,7 +20,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,14 +29,8 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final UserBadgeService  userBadgeService;
-    private final UserBadgeRepository userBadgeRepository;
-    private static final Map<Integer, Long> STREAK_TO_BADGE_ID = Map.of(
-            3, 1L,
-            7, 2L,
-            14, 3L,
-            30, 4L
-    );
+    private final BadgeAwardService badgeAwardService;
+    private final RefreshTokenService refreshTokenService;
 
 
     /**
@@ -159,79 +148,44 @@ public class UserService {
         }
 
         userRepository.deleteById(userNo);
+        // 탈퇴한 계정의 리프레시 토큰으로 재발급하지 못하도록 함께 폐기
+        refreshTokenService.revokeAllForUser(userNo);
         log.info("사용자 삭제 완료: userNo={}", userNo);
     }
 
     /**
      * 스트릭 카운트 증가
+     * 조건부 UPDATE 한 번으로 갱신 (읽고-계산하고-저장하는 사이의 갱신 유실 방지)
+     * 오늘 이미 반영된 경우 streak은 그대로 두고 뱃지도 지급하지 않음
      */
     @Transactional
     public UserBadgeResponse increaseStreakCount(Long userNo) {
-        User user = userRepository.findById(userNo)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        LocalDate today = LocalDate.now();
+        return increaseStreakCount(userNo, LocalDate.now());
+    }
 
+    /**
+     * 기록 날짜 기준 스트릭 카운트 증가
+     * 비동기 이벤트 처리가 자정을 넘겨 실행돼도 실제 기록 날짜로 반영 (처리 시각 기준이면 하루가 밀려 streak 유실)
+     */
+    @Transactional
+    public UserBadgeResponse increaseStreakCount(Long userNo, LocalDate recordDate) {
         // 1. 스트릭 카운트 갱신
-        LocalDate lastDate = user.getLastRecordDate();
-        if (lastDate != null && lastDate.isEqual(today.minusDays(1))) {
-            user.setStreakCount(user.getStreakCount() + 1);
-        } else {
-            user.setStreakCount(1);
-        }
-        user.setLastRecordDate(today);
-
-        // 2. 뱃지 지급 조건 확인 및 반환
-        Map<Integer, Long> badgeMap = Map.of(
-                3, 1L,
-                7, 2L,
-                14, 3L,
-                30, 4L
-        );
+        int updated = userRepository.increaseStreakCount(userNo, recordDate, recordDate.minusDays(1), LocalDateTime.now());
 
-        Long badgeId = badgeMap.get(user.getStreakCount());
-
-        userRepository.save(user);
-
-        if (badgeId != null) {
-            return giveBadge(user, badgeId);
-        }
-
-        return null; // 뱃지 조건 미충족
-    }
-    private final BadgeRepository badgeRepository;
-
-    private UserBadgeResponse giveBadge(User user, Long badgeId) {
-        UserBadgeId id = new UserBadgeId(user.getUserNo(), badgeId);
+        Integer streakCount = userRepository.findStreakCountByUserNo(userNo)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        if (userBadgeRepository.existsById(id)) {
-            return null; // 이미 받은 뱃지
+        if (updated == 0) {
+            log.info("해당 날짜 streak 이미 반영됨: userNo={}, date={}, streak={}", userNo, recordDate, streakCount);
+            return null;
         }
 
-        // badgeId로 Badge 객체 조회
-        Badge badge = badgeRepository.findById(badgeId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 뱃지입니다: " + badgeId));
-
-        // UserBadge 생성 및 저장
-        UserBadge userBadge = new UserBadge(
-                id,
-                user,
-                badge,
-                LocalDateTime.now()
-        );
-        userBadgeRepository.save(userBadge);
+        // 2. 뱃지 규칙 평가 및 지급 (conditionJson 기반)
+        List<UserBadgeResponse> awarded = badgeAwardService.award(userNo, BadgeMetric.STREAK, streakCount, streakCount);
 
-        return UserBadgeResponse.builder()
-                .userNo(user.getUserNo())
-                .badgeId(badgeId)
-                .awardedAt(userBadge.getAwardedAt())
-                .build();
+        return awarded.isEmpty() ? null : awarded.get(awarded.size() - 1); // 뱃지 조건 미충족 시 null
     }
 
-
-
-
-
     // === 변환 메서드 ===
     private Response convertToResponse(User user) {
         return Response.builder()
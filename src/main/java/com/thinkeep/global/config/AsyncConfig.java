@@ -0,0 +1,88 @@
+package com.thinkeep.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업용 스레드 풀 설정
+ */
+@Configuration
+@EnableAsync
+@Slf4j
+public class AsyncConfig {
+
+    /**
+     * GPT 퀴즈 생성 전용 스레드 풀
+     * OpenAI 호출은 DB 트랜잭션 밖에서 이 풀로 병렬 실행 (풀 크기로 동시 호출 수 제한)
+     */
+    @Bean(name = "quizGenerationExecutor")
+    public ThreadPoolTaskExecutor quizGenerationExecutor(
+            @Value("${app.quiz.generation.pool-size:8}") int poolSize,
+            @Value("${app.quiz.generation.queue-capacity:100}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("quiz-gen-");
+        // 큐가 가득 차면 요청 스레드에서 직접 실행 (작업 유실 방지)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        log.info("🧵 퀴즈 생성 스레드 풀 초기화: poolSize={}, queueCapacity={}", poolSize, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 일기 작성 후 streak 증가 / 뱃지 지급 전용 스레드 풀
+     * 기록 저장 트랜잭션 커밋 후 @Async 이벤트 리스너가 사용
+     */
+    @Bean(name = "streakExecutor")
+    public ThreadPoolTaskExecutor streakExecutor(
+            @Value("${app.streak.pool-size:4}") int poolSize,
+            @Value("${app.streak.queue-capacity:1000}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("streak-");
+        // 큐가 가득 차면 요청 스레드에서 직접 실행 (streak 누락 방지)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 종료 시 대기 중인 streak 작업 마무리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("🧵 streak 처리 스레드 풀 초기화: poolSize={}, queueCapacity={}", poolSize, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 홈 화면 집계(/api/home) 전용 스레드 풀
+     * 항목별 읽기 쿼리를 병렬 실행하되, 풀 크기로 홈 요청이 동시에 잡는 DB 커넥션 수를 제한
+     */
+    @Bean(name = "homeExecutor")
+    public ThreadPoolTaskExecutor homeExecutor(
+            @Value("${app.home.pool-size:8}") int poolSize,
+            @Value("${app.home.queue-capacity:200}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("home-");
+        // 큐가 가득 차면 요청 스레드에서 직접 실행 (순차 조회로 자연스럽게 감속)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        log.info("🧵 홈 화면 조회 스레드 풀 초기화: poolSize={}, queueCapacity={}", poolSize, queueCapacity);
+        return executor;
+    }
+}
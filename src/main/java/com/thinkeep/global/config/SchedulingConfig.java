@@ -0,0 +1,12 @@
+package com.thinkeep.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(만료 토큰 정리 등) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
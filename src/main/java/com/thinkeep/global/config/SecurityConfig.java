@@ -1,7 +1,10 @@
 package com.thinkeep.global.config;
 
+import com.thinkeep.domain.Auth.service.TokenRevocationService;
 import com.thinkeep.global.jwt.JwtAuthenticationFilter;
 import com.thinkeep.global.jwt.JwtUtil;
+import com.thinkeep.global.ratelimit.RateLimitFilter;
+import com.thinkeep.global.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,6 +31,8 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final RateLimiter rateLimiter;
 
     //  JWT 토글 설정
     @Value("${app.security.jwt-enabled:true}")
@@ -35,7 +40,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil);
+        return new JwtAuthenticationFilter(jwtUtil, tokenRevocationService);
     }
 
     @Bean
@@ -56,6 +61,9 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 );
 
+        // 🚦 요청 수 제한 (JWT 필터 뒤 -> 인증된 요청은 userNo 기준), JWT 토글과 무관하게 적용
+        httpSecurity.addFilterAfter(new RateLimitFilter(rateLimiter), UsernamePasswordAuthenticationFilter.class);
+
         // JWT 토글에 따른 권한 설정
         if (jwtEnabled) {
             // 🔒 JWT 인증 모드
@@ -128,6 +136,7 @@ public class SecurityConfig {
 
         // 응답 헤더 노출
         configuration.setExposedHeaders(Arrays.asList(
+                "Retry-After",
                 "Access-Control-Allow-Origin",
                 "Access-Control-Allow-Credentials",
                 "Authorization"
@@ -0,0 +1,120 @@
+package com.thinkeep.global.jpa;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 테이블 기반 pooled ID 생성기(id_generator) 초기화
+ * 기존 AUTO_INCREMENT로 생성된 행과 ID가 겹치지 않도록 기동 시(웹 서버 시작 전) 시퀀스 값을 최대 ID 이후로 맞춤
+ *
+ * Hibernate pooled 최적화: 시퀀스 값 V를 읽은 인스턴스가 [V - 49, V] 범위를 사용하고 값을 V + 50으로 올림
+ * -> 저장된 값이 (최대 ID + 50) 이상이면 다음 범위는 항상 최대 ID 이후
+ *
+ * 스키마 생성(ddl-auto) 이후에 실행되도록 EntityManagerFactory 다음에 초기화
+ *
+ * 주의: Hibernate 테이블 생성기는 블록을 새로 받을 때 호출 트랜잭션과 별도의 커넥션을 하나 더 사용
+ * -> 한 번에 여러 건을 저장하는 퀴즈에만 적용하고, 요청마다 1건씩 저장하는 기록은 IDENTITY 유지
+ * -> 커넥션 풀(spring.datasource.hikari.maximum-pool-size)은 동시 트랜잭션 수 + 1 이상 여유를 둘 것
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+
+    public static final String TABLE = "id_generator";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String QUIZZES = "quizzes";
+
+    // 시퀀스 이름 -> (테이블, ID 컬럼)
+    private static final Map<String, String[]> SEQUENCES = Map.of(
+            QUIZZES, new String[]{"quizzes", "quiz_id"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdGeneratorInitializer(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCES.forEach((sequenceName, target) -> {
+            try {
+                align(sequenceName, target[0], target[1]);
+            } catch (Exception e) {
+                // 테이블이 아직 없는 환경(ddl-auto=none 등)에서는 Hibernate 기본 동작에 맡김
+                log.warn("⚠️ ID 생성기 초기화 생략: sequence={}, error={}", sequenceName, e.getMessage());
+            }
+        });
+    }
+
+    private void align(String sequenceName, String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        long required = (maxId != null ? maxId : 0) + ALLOCATION_SIZE;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + TABLE + " SET " + VALUE_COLUMN + " = ? WHERE " + PK_COLUMN + " = ? AND " + VALUE_COLUMN + " < ?",
+                required, sequenceName, required);
+
+        if (updated == 0) {
+            Integer exists = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + TABLE + " WHERE " + PK_COLUMN + " = ?", Integer.class, sequenceName);
+            if (exists == null || exists == 0) {
+                jdbcTemplate.update("INSERT INTO " + TABLE + " (" + PK_COLUMN + ", " + VALUE_COLUMN + ") VALUES (?, ?)",
+                        sequenceName, required);
+                updated = 1;
+            }
+        }
+
+        if (updated > 0) {
+            log.info("🔢 ID 생성기 정렬: sequence={}, maxId={}, next_val={}", sequenceName, maxId, required);
+        }
+    }
+
+    /**
+     * JDBC로 직접 INSERT하는 경로(대량 데이터 생성 등)용 ID 블록 할당
+     * Hibernate pooled 규칙과 겹치지 않게 ALLOCATION_SIZE 배수만큼 예약
+     * 행 잠금을 오래 잡지 않도록 데이터 INSERT와 별도 커넥션(autoCommit=false)에서 호출하고 바로 커밋할 것
+     *
+     * @return 예약된 범위의 첫 ID (first ~ first + count - 1 사용 가능)
+     */
+    public static long allocate(Connection connection, String sequenceName, int count) throws SQLException {
+        long current;
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT " + VALUE_COLUMN + " FROM " + TABLE + " WHERE " + PK_COLUMN + " = ? FOR UPDATE")) {
+            select.setString(1, sequenceName);
+            try (ResultSet resultSet = select.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new IllegalStateException("ID 생성기 행이 없습니다: " + sequenceName);
+                }
+                current = resultSet.getLong(1);
+            }
+        }
+
+        // 아직 아무도 범위를 받아가지 않은 초기 값(1)은 첫 범위 [1, 50]의 상한으로 취급
+        long upper = Math.max(current, ALLOCATION_SIZE);
+        long reserved = ((long) count + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE * ALLOCATION_SIZE;
+
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + TABLE + " SET " + VALUE_COLUMN + " = ? WHERE " + PK_COLUMN + " = ?")) {
+            update.setLong(1, upper + reserved);
+            update.setString(2, sequenceName);
+            update.executeUpdate();
+        }
+
+        return upper - ALLOCATION_SIZE + 1;
+    }
+}
@@ -1,5 +1,6 @@
 package com.thinkeep.global.jwt;
 
+import com.thinkeep.domain.Auth.service.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +22,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(
@@ -31,12 +33,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. 요청에서 JWT 토큰 추출
         String token = extractTokenFromRequest(request);
 
-        // 2. 토큰이 있고 유효한지 검증
-        if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
+        // 2. 토큰이 있으면 한 번만 검증하면서 Claims 추출
+        JwtClaims claims = StringUtils.hasText(token) ? jwtUtil.parseToken(token).orElse(null) : null;
+
+        // 로그아웃으로 폐기된 토큰은 인증하지 않음 (메모리 확인, DB 조회 없음)
+        if (claims != null && tokenRevocationService.isRevoked(claims.getTokenId())) {
+            log.warn("폐기된 JWT 토큰 사용 시도: userNo={}", claims.getUserNo());
+            claims = null;
+        }
+
+        if (claims != null) {
             try {
                 // 3. 토큰에서 사용자 정보 추출
-                Long userNo = jwtUtil.getUserNoFromToken(token);
-                String nickname = jwtUtil.getNicknameFromToken(token);
+                Long userNo = claims.getUserNo();
+                String nickname = claims.getNickname();
 
                 // 4. Spring Security 인증 객체 생성
                 Authentication authentication = new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,25 @@
+package com.thinkeep.global.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 검증된 JWT에서 꺼낸 사용자 정보
+ * 토큰을 한 번만 파싱해서 필터/서비스가 함께 사용
+ */
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+
+    private final String tokenId;       // jti (폐기 확인용, 예전 토큰은 null)
+    private final Long userNo;
+    private final String nickname;
+    private final Boolean isKakaoUser;
+    private final Date expiration;
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+}
@@ -8,36 +8,73 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import io.jsonwebtoken.SignatureAlgorithm;
 import javax.crypto.SecretKey;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
 
 @Component
 @Slf4j
 public class JwtUtil {
 
-    @Value("${jwt.accessTokenExpirationTime}")
-    private long accessTokenExpirationTime;
-
-    @Value("${jwt.secretKey}")
-    private String secretKey;
+    // secretKey가 비어있거나 너무 짧을 때 사용하는 임시 키
+    private static final String FALLBACK_SECRET_KEY =
+            "EmergencySecretKeyForJwtThatIsAtLeast32CharactersLongToEnsureSecurity123456789";
+
+    private final long accessTokenExpirationTime;
+
+    // 서명 키와 파서는 기동 시 한 번만 생성 (thread-safe)
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    // 검증을 통과한 토큰 캐시 (토큰 해시 -> Claims, 만료 시각까지 유효)
+    private final Map<String, JwtClaims> verifiedTokens;
+
+    public JwtUtil(@Value("${jwt.accessTokenExpirationTime}") long accessTokenExpirationTime,
+                   @Value("${jwt.secretKey}") String secretKey,
+                   @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize) {
+        this.accessTokenExpirationTime = accessTokenExpirationTime;
+        this.signingKey = createSigningKey(secretKey);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        // 접근 순서 LinkedHashMap -> 가장 오래 사용되지 않은 토큰부터 제거
+        this.verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > verifiedCacheMaxSize;
+            }
+        });
+    }
 
     /**
      * JWT 토큰 생성
      */
     public String generateToken(User user) {
-        // 🔍 디버깅 로그 추가
-        log.info("🔍 JWT 토큰 생성 시작");
-        log.info("🔍 설정된 secretKey: '{}'", secretKey);
-        log.info("🔍 secretKey 길이: {}", secretKey != null ? secretKey.length() : "null");
-        log.info("🔍 secretKey 바이트 길이: {}", secretKey != null ? secretKey.getBytes().length : "null");
+        return generateToken(user.getUserNo(), user.getNickname(), user.getKakaoId() != null);
+    }
+
+    /**
+     * JWT 토큰 생성 (사용자 엔티티 없이)
+     * 리프레시 토큰 재발급처럼 users 테이블을 읽지 않는 경로에서 사용
+     */
+    public String generateToken(Long userNo, String nickname, boolean isKakaoUser) {
+        log.debug("🔍 JWT 토큰 생성: userNo={}", userNo);
 
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userNo", user.getUserNo());
-        claims.put("nickname", user.getNickname());
-        claims.put("isKakaoUser", user.getKakaoId() != null);
+        claims.put("userNo", userNo);
+        claims.put("nickname", nickname);
+        claims.put("isKakaoUser", isKakaoUser);
+
+        return createToken(claims, nickname);
+    }
 
-        return createToken(claims, user.getNickname());
+    /**
+     * 액세스 토큰 유효 기간 (초)
+     */
+    public long getAccessTokenExpiresInSeconds() {
+        return accessTokenExpirationTime / 1000;
     }
 
     /**
@@ -49,49 +86,64 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expirationDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     /**
-     * 서명용 키 생성 (내부 메서드) - 🚨 긴급 안전장치 추가
+     * 서명용 키 생성 (기동 시 1회) - 🚨 긴급 안전장치 포함
+     * 키 값 자체는 로그에 남기지 않음
      */
-    private SecretKey getSigningKey() {
-        log.info("🔍 getSigningKey() 호출됨");
-        log.info("🔍 현재 secretKey 값: '{}'", secretKey);
-
-        // 🚨 긴급 안전장치: secretKey가 비어있거나 null이면 강제로 안전한 키 사용
+    private static SecretKey createSigningKey(String secretKey) {
         String actualKey = secretKey;
 
+        // 🚨 긴급 안전장치: secretKey가 비어있거나 null이면 강제로 안전한 키 사용
         if (actualKey == null || actualKey.trim().isEmpty()) {
             log.error("❌ JWT secretKey가 비어있습니다! 임시 키 사용");
-            actualKey = "EmergencySecretKeyForJwtThatIsAtLeast32CharactersLongToEnsureSecurity123456789";
+            actualKey = FALLBACK_SECRET_KEY;
         }
 
         // 키 길이 재확인
         if (actualKey.getBytes().length < 32) {
             log.error("❌ JWT secretKey가 너무 짧습니다! ({} bytes) 임시 키 사용", actualKey.getBytes().length);
-            actualKey = "EmergencySecretKeyForJwtThatIsAtLeast32CharactersLongToEnsureSecurity123456789";
+            actualKey = FALLBACK_SECRET_KEY;
         }
 
-        log.info("✅ 최종 사용할 키: '{}' (길이: {})", actualKey, actualKey.length());
+        log.info("✅ JWT 서명 키 초기화 완료 (키 길이: {} bytes)", actualKey.getBytes().length);
 
         return Keys.hmacShaKeyFor(actualKey.getBytes());
     }
 
     /**
-     * 토큰 검증
+     * 토큰 검증 + Claims 추출 (요청당 1회)
+     * 이미 검증한 토큰은 만료 전까지 서명 검증 없이 캐시에서 반환
+     * 유효하지 않으면 Optional.empty()
      */
-    public boolean validateToken(String token) {
+    public Optional<JwtClaims> parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            log.warn("JWT 토큰이 비어있습니다");
+            return Optional.empty();
+        }
+
+        String tokenHash = hash(token);
+        JwtClaims cached = verifiedTokens.get(tokenHash);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.remove(tokenHash);
+            log.warn("JWT 토큰이 만료되었습니다: 캐시된 토큰 expiration={}", cached.getExpiration());
+            return Optional.empty();
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            JwtClaims claims = toJwtClaims(getClaimsFromToken(token));
+            verifiedTokens.put(tokenHash, claims);
+            return Optional.of(claims);
         } catch (ExpiredJwtException e) {
             log.warn("JWT 토큰이 만료되었습니다: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
@@ -103,7 +155,14 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 비어있습니다: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * 토큰 검증
+     */
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
     }
 
     /**
@@ -150,10 +209,28 @@ public class JwtUtil {
      * 토큰에서 Claims 추출 (내부 메서드)
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
-}
\ No newline at end of file
+
+    private JwtClaims toJwtClaims(Claims claims) {
+        return new JwtClaims(
+                claims.getId(),
+                claims.get("userNo", Long.class),
+                claims.get("nickname", String.class),
+                claims.get("isKakaoUser", Boolean.class),
+                claims.getExpiration()
+        );
+    }
+
+    // 캐시 키: 토큰 원문 대신 SHA-256 해시 (메모리에 토큰을 그대로 들고 있지 않도록)
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
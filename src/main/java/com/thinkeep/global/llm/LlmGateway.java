@@ -0,0 +1,260 @@
+package com.thinkeep.global.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.*;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpenAI Chat Completions 공용 호출 게이트웨이
+ * - 커넥션 풀을 공유하는 OkHttpClient 하나만 사용
+ * - 호출 단위 마감 시간(재시도 포함) 안에서만 대기
+ * - 429/5xx/네트워크 오류는 지수 백오프로 재시도
+ * - 연속 실패가 쌓이면 회로를 열어 일정 시간 동안 즉시 실패
+ */
+@Slf4j
+@Component
+public class LlmGateway implements DisposableBean {
+
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final OkHttpClient client;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final String apiUrl;
+    private final String apiKey;
+    private final long deadlineMillis;
+    private final int maxRetries;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    // 회로 차단기 상태
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean halfOpenTrial = new AtomicBoolean();
+    private volatile long openUntil = 0L;
+
+    private final Counter retries;
+    private final Counter rejected;
+
+    public LlmGateway(ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${openai.api.url:https://api.openai.com/v1/chat/completions}") String apiUrl,
+                      @Value("${openai.api.key}") String apiKey,
+                      @Value("${app.llm.connect-timeout-ms:3000}") long connectTimeoutMillis,
+                      @Value("${app.llm.read-timeout-ms:20000}") long readTimeoutMillis,
+                      @Value("${app.llm.deadline-ms:30000}") long deadlineMillis,
+                      @Value("${app.llm.max-retries:2}") int maxRetries,
+                      @Value("${app.llm.backoff-ms:500}") long backoffMillis,
+                      @Value("${app.llm.max-backoff-ms:4000}") long maxBackoffMillis,
+                      @Value("${app.llm.pool.max-idle:20}") int maxIdleConnections,
+                      @Value("${app.llm.pool.keep-alive-ms:300000}") long keepAliveMillis,
+                      @Value("${app.llm.circuit.failure-threshold:5}") int failureThreshold,
+                      @Value("${app.llm.circuit.open-ms:30000}") long openMillis) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.apiUrl = apiUrl;
+        this.apiKey = apiKey;
+        this.deadlineMillis = deadlineMillis;
+        this.maxRetries = maxRetries;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+
+        this.client = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS))
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .readTimeout(Duration.ofMillis(readTimeoutMillis))
+                .writeTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .retryOnConnectionFailure(false) // 재시도는 게이트웨이에서 직접 관리
+                .build();
+
+        this.retries = meterRegistry.counter("llm.requests.retries");
+        this.rejected = meterRegistry.counter("llm.requests.rejected", "reason", "circuit_open");
+        meterRegistry.gauge("llm.circuit.open", this, gateway -> gateway.isOpen() ? 1 : 0);
+
+        log.info("🤖 LLM 게이트웨이 초기화: deadline={}ms, maxRetries={}, circuitThreshold={}",
+                deadlineMillis, maxRetries, failureThreshold);
+    }
+
+    /**
+     * 사용자 메시지 하나로 Chat Completions 호출 후 응답 원문(JSON) 반환
+     */
+    public String chatCompletion(String model, String userContent) throws IOException {
+        return chatCompletion(model, userContent, null);
+    }
+
+    public String chatCompletion(String model, String userContent, Double temperature) throws IOException {
+        ObjectNode requestBody = objectMapper.createObjectNode();
+        requestBody.put("model", model);
+        if (temperature != null) {
+            requestBody.put("temperature", temperature);
+        }
+        ObjectNode userMessage = requestBody.putArray("messages").addObject();
+        userMessage.put("role", "user");
+        userMessage.put("content", userContent);
+
+        Request request = new Request.Builder()
+                .url(apiUrl)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .post(RequestBody.create(objectMapper.writeValueAsString(requestBody), JSON))
+                .build();
+
+        if (!tryAcquire()) {
+            rejected.increment();
+            throw new LlmUnavailableException("OpenAI 호출 차단 중 (회로 열림)");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            String result = executeWithRetry(request);
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer("llm.requests", "model", model, "outcome", outcome));
+        }
+    }
+
+    private String executeWithRetry(Request request) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        for (int attempt = 0; ; attempt++) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                onFailure();
+                throw new InterruptedIOException("OpenAI 호출 마감 시간 초과: " + deadlineMillis + "ms");
+            }
+
+            Call call = client.newCall(request);
+            call.timeout().timeout(remainingMillis, TimeUnit.MILLISECONDS);
+
+            IOException failure;
+            boolean retryable = true;
+            long retryAfterMillis = 0L;
+
+            try (Response response = call.execute()) {
+                if (response.isSuccessful()) {
+                    String body = response.body() != null ? response.body().string() : "";
+                    onSuccess();
+                    return body;
+                }
+
+                String errorBody = response.body() != null ? response.body().string() : "empty";
+                log.error("GPT 요청 실패: HTTP {}, attempt={}, Body: {}", response.code(), attempt + 1, errorBody);
+                failure = new IOException("GPT 요청 실패: HTTP " + response.code());
+                retryable = isRetryable(response.code());
+                retryAfterMillis = parseRetryAfter(response.header("Retry-After"));
+            } catch (IOException e) {
+                // 연결 실패, 읽기 시간 초과, 호출 마감 시간 초과 모두 포함
+                log.error("GPT 요청 네트워크 오류: attempt={}, error={}", attempt + 1, e.getMessage());
+                failure = e;
+            }
+
+            if (!retryable) {
+                // 요청 자체의 문제(4xx)는 OpenAI 장애로 보지 않음
+                onSuccess();
+                throw failure;
+            }
+
+            long sleepMillis = Math.max(backoff(attempt), retryAfterMillis);
+            long left = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (attempt >= maxRetries || sleepMillis >= left) {
+                onFailure();
+                throw failure;
+            }
+
+            retries.increment();
+            log.warn("GPT 요청 재시도 예정: {}ms 후 (attempt={}/{})", sleepMillis, attempt + 2, maxRetries + 1);
+            sleep(sleepMillis);
+        }
+    }
+
+    private boolean isRetryable(int code) {
+        return code == 429 || code >= 500;
+    }
+
+    // 지수 백오프 + 지터 (base * 2^attempt, 상한 적용)
+    private long backoff(int attempt) {
+        long exponential = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt, 16));
+        return exponential / 2 + ThreadLocalRandom.current().nextLong(exponential / 2 + 1);
+    }
+
+    // Retry-After 헤더(초 단위)만 지원
+    private long parseRetryAfter(String header) {
+        if (header == null) {
+            return 0L;
+        }
+        try {
+            return Math.min(maxBackoffMillis, TimeUnit.SECONDS.toMillis(Long.parseLong(header.trim())));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("GPT 요청 재시도 대기 중 인터럽트");
+        }
+    }
+
+    // ===== 회로 차단기 =====
+
+    private boolean isOpen() {
+        return System.currentTimeMillis() < openUntil;
+    }
+
+    // 닫힘: 통과 / 열림: 차단 / 열림 시간 경과 후: 시험 호출 1건만 통과
+    private boolean tryAcquire() {
+        if (consecutiveFailures.get() < failureThreshold) {
+            return true;
+        }
+        if (isOpen()) {
+            return false;
+        }
+        return halfOpenTrial.compareAndSet(false, true);
+    }
+
+    private void onSuccess() {
+        if (consecutiveFailures.getAndSet(0) >= failureThreshold) {
+            log.info("✅ OpenAI 회로 닫힘 - 호출 정상화");
+        }
+        halfOpenTrial.set(false);
+    }
+
+    private void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold) {
+            openUntil = System.currentTimeMillis() + openMillis;
+            log.warn("🚫 OpenAI 회로 열림 - 연속 실패 {}회, {}ms 동안 호출 차단", failures, openMillis);
+        }
+        halfOpenTrial.set(false);
+    }
+
+    @Override
+    public void destroy() {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+}
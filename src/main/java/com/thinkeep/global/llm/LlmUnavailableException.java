@@ -0,0 +1,13 @@
+package com.thinkeep.global.llm;
+
+import java.io.IOException;
+
+/**
+ * 회로 차단기가 열려 있어 OpenAI를 호출하지 않고 바로 실패한 경우
+ */
+public class LlmUnavailableException extends IOException {
+
+    public LlmUnavailableException(String message) {
+        super(message);
+    }
+}
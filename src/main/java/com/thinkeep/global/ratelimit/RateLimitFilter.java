@@ -0,0 +1,100 @@
+package com.thinkeep.global.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로그인 / 퀴즈 생성 경로 요청 수 제한
+ * JWT 필터 뒤에서 실행 -> 인증된 요청은 userNo, 아니면 클라이언트 IP 기준
+ * 클라이언트 IP는 신뢰하는 내부 프록시가 넘긴 X-Forwarded-For만 반영 (server.tomcat.remoteip.internal-proxies)
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String QUIZ_RULE = "quiz";
+    private static final String USER_NO_PARAM = "userNo";
+
+    private static final String TOO_MANY_REQUESTS_BODY =
+            "{\"success\":false,\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요\"}";
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        // 1. 제한 대상 경로인지 확인 (대부분의 요청은 여기서 바로 통과)
+        RateLimiter.Rule rule = rateLimiter.match(request.getMethod(), request.getRequestURI());
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 2. 버킷에서 토큰 사용
+        String clientKey = resolveClientKey(request, rule);
+        long retryAfterSeconds = rateLimiter.tryAcquire(rule, clientKey);
+        if (retryAfterSeconds > 0) {
+            log.warn("🚦 요청 제한: rule={}, client={}, retryAfter={}s", rule.getName(), clientKey, retryAfterSeconds);
+
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(TOO_MANY_REQUESTS_BODY);
+            return;
+        }
+
+        // 3. 다음 필터로 진행
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 제한 기준 키: 인증된 사용자면 userNo, 아니면 IP
+     * JWT 비활성 모드의 퀴즈 경로는 userNo 파라미터 + IP
+     * -> 통신사 NAT처럼 IP 하나를 여럿이 쓰는 경우에도 사용자별로 버킷 분리
+     * (파라미터는 클라이언트가 바꿀 수 있으니 IP와 묶어서만 사용)
+     */
+    private String resolveClientKey(HttpServletRequest request, RateLimiter.Rule rule) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userNo) {
+            return "user:" + userNo;
+        }
+
+        String ipKey = "ip:" + request.getRemoteAddr();
+        if (QUIZ_RULE.equals(rule.getName())) {
+            Long userNo = parseUserNo(request.getParameter(USER_NO_PARAM));
+            if (userNo != null) {
+                return "user:" + userNo + "|" + ipKey;
+            }
+        }
+        return ipKey;
+    }
+
+    // 숫자가 아닌 값은 무시 -> 임의 문자열로 키를 부풀리지 못하게
+    private Long parseUserNo(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.thinkeep.global.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로별 토큰 버킷 레이트 리미터 (서버 메모리)
+ * 키(userNo 또는 IP)별 버킷을 락 스트라이프로 나눠 보관해서 키끼리 경합하지 않도록 하고,
+ * 스트라이프별 최대 개수 + 유휴 버킷 정리로 메모리 상한을 둠
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private static final int STRIPES = 64;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    private final boolean enabled;
+    private final List<Rule> rules;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final MeterRegistry meterRegistry;
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${app.ratelimit.enabled:true}") boolean enabled,
+                       @Value("${app.ratelimit.max-keys:100000}") int maxKeys,
+                       @Value("${app.ratelimit.login.capacity:10}") int loginCapacity,
+                       @Value("${app.ratelimit.login.refill-per-minute:10}") int loginRefillPerMinute,
+                       @Value("${app.ratelimit.quiz.capacity:5}") int quizCapacity,
+                       @Value("${app.ratelimit.quiz.refill-per-minute:5}") int quizRefillPerMinute) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+
+        this.rules = List.of(
+                new Rule("login", "POST", "/api/auth/login", loginCapacity, loginRefillPerMinute),
+                new Rule("login", "POST", "/api/auth/kakao-login", loginCapacity, loginRefillPerMinute),
+                new Rule("quiz", "GET", "/api/quizzes/today", quizCapacity, quizRefillPerMinute),     // 오늘 퀴즈 (GPT 생성 가능)
+                new Rule("quiz", "POST", "/api/quizzes/generate", quizCapacity, quizRefillPerMinute)  // 퀴즈 생성 (GPT 호출)
+        );
+
+        int perStripe = Math.max(16, maxKeys / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+
+        meterRegistry.gauge("ratelimit.buckets", this, RateLimiter::bucketCount);
+        log.info("🚦 레이트 리미터 초기화: enabled={}, login={}/{}분, quiz={}/{}분, maxKeys={}",
+                enabled, loginCapacity, loginRefillPerMinute, quizCapacity, quizRefillPerMinute, maxKeys);
+    }
+
+    /**
+     * 요청에 해당하는 규칙 (제한 대상이 아니면 null)
+     * 제한 없는 요청은 여기서 문자열 비교 몇 번만 하고 끝남
+     */
+    public Rule match(String method, String path) {
+        if (!enabled) {
+            return null;
+        }
+        for (Rule rule : rules) {
+            if (rule.path.equals(path) && rule.method.equals(method)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @return 0이면 허용, 양수면 다음 토큰까지 남은 시간(초, 올림)
+     */
+    public long tryAcquire(Rule rule, String clientKey) {
+        String key = rule.name + ':' + clientKey;
+        long now = System.nanoTime();
+
+        Stripe stripe = stripes[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(rule, now);
+                stripe.buckets.put(key, bucket);
+            }
+
+            long waitNanos = bucket.tryConsume(now);
+            if (waitNanos == 0) {
+                return 0;
+            }
+
+            meterRegistry.counter("ratelimit.rejected", "rule", rule.name).increment();
+            return Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        }
+    }
+
+    /**
+     * 유휴 버킷 정리
+     * 가득 찰 만큼 시간이 지난 버킷은 새로 만든 버킷과 같으므로 제거해도 동작이 같음
+     */
+    @Scheduled(fixedDelayString = "${app.ratelimit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                int before = stripe.buckets.size();
+                stripe.buckets.values().removeIf(bucket -> bucket.isFull(now));
+                evicted += before - stripe.buckets.size();
+            }
+        }
+
+        if (evicted > 0) {
+            log.debug("🚦 유휴 레이트 리밋 버킷 정리: {}개", evicted);
+        }
+    }
+
+    private double bucketCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.buckets.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 경로별 제한 규칙 (같은 name이면 버킷을 공유)
+     */
+    @Getter
+    public static class Rule {
+
+        private final String name;
+        private final String method;
+        private final String path;
+        private final int capacity;
+        private final double tokensPerNano;
+
+        Rule(String name, String method, String path, int capacity, int refillPerMinute) {
+            this.name = name;
+            this.method = method;
+            this.path = path;
+            this.capacity = Math.max(1, capacity);
+            this.tokensPerNano = (double) Math.max(1, refillPerMinute) / NANOS_PER_MINUTE;
+        }
+    }
+
+    // 스트라이프: 접근 순서 LinkedHashMap -> 가득 차면 가장 오래 안 쓴 키부터 제거
+    private static class Stripe {
+
+        private final Map<String, Bucket> buckets;
+
+        Stripe(int maxSize) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+    }
+
+    // 스트라이프 락 안에서만 접근
+    private static class Bucket {
+
+        private final int capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        Bucket(Rule rule, long now) {
+            this.capacity = rule.capacity;
+            this.tokensPerNano = rule.tokensPerNano;
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        long tryConsume(long now) {
+            refill(now);
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                lastRefillNanos = now;
+            }
+        }
+    }
+}
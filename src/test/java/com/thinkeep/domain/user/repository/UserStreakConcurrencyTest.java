@@ -0,0 +1,145 @@
+package com.thinkeep.domain.user.repository;
+
+import com.thinkeep.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건부 UPDATE 기반 streak 갱신 동시성 테스트
+ * 각 스레드가 별도 트랜잭션으로 같은 사용자의 streak을 동시에 갱신
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드 간 데이터가 보이도록 테스트 트랜잭션 사용 안 함
+class UserStreakConcurrencyTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 날 동시에 여러 번 호출해도 streak은 한 번만 증가한다")
+    void concurrentCallsIncreaseStreakOnlyOnce() throws Exception {
+        LocalDate today = LocalDate.now();
+        User user = saveUser("streak-user", 5, today.minusDays(1));
+
+        List<Integer> updatedRows = runConcurrently(THREADS, () -> increase(user.getUserNo(), today));
+
+        assertThat(updatedRows.stream().mapToInt(Integer::intValue).sum()).isEqualTo(1);
+        assertThat(userRepository.findStreakCountByUserNo(user.getUserNo())).contains(6);
+    }
+
+    @Test
+    @DisplayName("어제 기록이 없으면 동시에 호출해도 streak은 1로 초기화된다")
+    void streakResetsWhenYesterdayMissed() throws Exception {
+        LocalDate today = LocalDate.now();
+        User user = saveUser("reset-user", 9, today.minusDays(3));
+
+        List<Integer> updatedRows = runConcurrently(THREADS, () -> increase(user.getUserNo(), today));
+
+        assertThat(updatedRows.stream().mapToInt(Integer::intValue).sum()).isEqualTo(1);
+        assertThat(userRepository.findStreakCountByUserNo(user.getUserNo())).contains(1);
+    }
+
+    @Test
+    @DisplayName("여러 날에 걸친 갱신이 동시에 섞여도 날짜별로 정확히 한 번씩 반영된다")
+    void consecutiveDaysAreNotLost() throws Exception {
+        LocalDate start = LocalDate.now().minusDays(10);
+        User user = saveUser("multi-day-user", 1, start);
+
+        // 하루씩 순서대로 진행하되, 각 날짜마다 여러 스레드가 동시에 호출
+        for (int day = 1; day <= 5; day++) {
+            LocalDate date = start.plusDays(day);
+            runConcurrently(THREADS, () -> increase(user.getUserNo(), date));
+        }
+
+        assertThat(userRepository.findStreakCountByUserNo(user.getUserNo())).contains(6);
+    }
+
+    @Test
+    @DisplayName("늦게 처리된 과거 날짜 갱신은 이미 반영된 streak을 되돌리지 않는다")
+    void staleDateDoesNotOverwriteNewerStreak() throws Exception {
+        LocalDate today = LocalDate.now();
+        User user = saveUser("stale-user", 4, today);
+
+        List<Integer> updatedRows = runConcurrently(THREADS, () -> increase(user.getUserNo(), today.minusDays(1)));
+
+        assertThat(updatedRows.stream().mapToInt(Integer::intValue).sum()).isZero();
+        assertThat(userRepository.findStreakCountByUserNo(user.getUserNo())).contains(4);
+    }
+
+    private User saveUser(String nickname, int streakCount, LocalDate lastRecordDate) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .streakCount(streakCount)
+                .lastRecordDate(lastRecordDate)
+                .build());
+    }
+
+    private int increase(Long userNo, LocalDate date) {
+        return transactionTemplate.execute(status ->
+                userRepository.increaseStreakCount(userNo, date, date.minusDays(1), LocalDateTime.now()));
+    }
+
+    // 모든 스레드를 동시에 출발시키고 결과 수집
+    private List<Integer> runConcurrently(int count, Callable<Integer> task) throws Exception {
+        CountDownLatch ready = new CountDownLatch(count);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                go.await();
+                return task.call();
+            }));
+        }
+
+        ready.await(10, TimeUnit.SECONDS);
+        go.countDown();
+
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,101 @@
+package com.thinkeep.global.jpa;
+
+import com.thinkeep.domain.quiz.entity.QuestionType;
+import com.thinkeep.domain.quiz.entity.Quiz;
+import com.thinkeep.domain.quiz.repository.QuizRepository;
+import com.thinkeep.domain.user.entity.User;
+import com.thinkeep.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * pooled 테이블 ID 생성기 + hibernate.jdbc.batch_size 적용 확인
+ * 퀴즈 여러 건 저장 시 INSERT 문이 건별이 아니라 배치 하나로 묶이는지 Hibernate 통계로 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋 시점의 flush를 그대로 측정
+class PooledIdBatchInsertTest {
+
+    private static final int QUIZZES = 20;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        quizRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("퀴즈 20건 저장은 INSERT 배치 하나로 처리된다")
+    void quizzesAreInsertedInOneBatch() {
+        Long userNo = userRepository.save(User.builder().nickname("batch-user").build()).getUserNo();
+
+        // 생성기 예열: 첫 ID 블록(50개) 할당을 측정 구간에서 제외
+        transactionTemplate.executeWithoutResult(status -> quizRepository.save(quiz(userNo, 0)));
+        statistics.clear();
+
+        List<Quiz> quizzes = new ArrayList<>();
+        for (int i = 1; i <= QUIZZES; i++) {
+            quizzes.add(quiz(userNo, i));
+        }
+        transactionTemplate.executeWithoutResult(status -> quizRepository.saveAll(quizzes));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(QUIZZES);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(quizzes).allSatisfy(quiz -> assertThat(quiz.getQuizId()).isNotNull());
+        assertThat(quizRepository.count()).isEqualTo(QUIZZES + 1);
+    }
+
+    private Quiz quiz(Long userNo, int index) {
+        return Quiz.builder()
+                .userNo(userNo)
+                .context("기록 기반 회상 퀴즈")
+                .question("질문 " + index)
+                .answer("정답")
+                .choices("정답||오답 1||오답 2")
+                .quizDate(LocalDate.now())
+                .questionId(QuestionType.Q2)
+                .build();
+    }
+}
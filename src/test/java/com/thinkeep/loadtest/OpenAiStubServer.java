@@ -0,0 +1,189 @@
+package com.thinkeep.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 OpenAI chat completions 대역 서버 (로컬 임베디드 HTTP)
+ * 지연: latencyMs + [0, jitterMs) 균등분포, tailRate 확률로 tailLatencyMs 추가
+ * 오류: errorRate 확률로 500, rateLimitRate 확률로 429(Retry-After: 1)
+ * 단건/배치 프롬프트 모두 GptQuizParser가 파싱할 수 있는 응답을 돌려줌
+ */
+public class OpenAiStubServer implements AutoCloseable {
+
+    // 배치 프롬프트의 퀴즈 조건 블록 ("[퀴즈 N 조건]")
+    private static final Pattern BATCH_ITEM = Pattern.compile("\\[퀴즈 (\\d+) 조건]");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double tailRate;
+    private final long tailLatencyMs;
+    private final double errorRate;
+    private final double rateLimitRate;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong injectedRateLimits = new AtomicLong();
+
+    public OpenAiStubServer(long latencyMs, long jitterMs, double tailRate, long tailLatencyMs,
+                            double errorRate, double rateLimitRate) throws IOException {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.tailRate = tailRate;
+        this.tailLatencyMs = tailLatencyMs;
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // 지연을 sleep으로 흉내내므로 요청마다 스레드 하나
+        this.executor = Executors.newCachedThreadPool();
+        this.server.setExecutor(executor);
+        this.server.createContext("/v1/chat/completions", this::handle);
+        this.server.start();
+    }
+
+    /**
+     * loadtest.stub.* 시스템 프로퍼티로 설정
+     */
+    public static OpenAiStubServer fromSystemProperties() throws IOException {
+        return new OpenAiStubServer(
+                Long.getLong("loadtest.stub.latency-ms", 300),
+                Long.getLong("loadtest.stub.jitter-ms", 200),
+                Double.parseDouble(System.getProperty("loadtest.stub.tail-rate", "0.01")),
+                Long.getLong("loadtest.stub.tail-latency-ms", 3000),
+                Double.parseDouble(System.getProperty("loadtest.stub.error-rate", "0.02")),
+                Double.parseDouble(System.getProperty("loadtest.stub.rate-limit-rate", "0.01"))
+        );
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+    }
+
+    public String describe() {
+        return String.format("latency=%dms+%dms jitter, tail=%.1f%%@%dms, 500=%.1f%%, 429=%.1f%%",
+                latencyMs, jitterMs, tailRate * 100, tailLatencyMs, errorRate * 100, rateLimitRate * 100);
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+
+    public long getInjectedRateLimits() {
+        return injectedRateLimits.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            sleep(latencyMs + (jitterMs > 0 ? random.nextLong(jitterMs) : 0)
+                    + (random.nextDouble() < tailRate ? tailLatencyMs : 0));
+
+            double roll = random.nextDouble();
+            if (roll < rateLimitRate) {
+                injectedRateLimits.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                send(exchange, 429, "{\"error\":{\"message\":\"Rate limit reached (stub)\"}}");
+                return;
+            }
+            if (roll < rateLimitRate + errorRate) {
+                injectedErrors.incrementAndGet();
+                send(exchange, 500, "{\"error\":{\"message\":\"Internal error (stub)\"}}");
+                return;
+            }
+
+            send(exchange, 200, completion(quizContent(body)));
+        }
+    }
+
+    // 배치 프롬프트면 퀴즈 수만큼 JSON 배열, 아니면 단건 JSON
+    private String quizContent(String requestBody) throws IOException {
+        int batchSize = 0;
+        Matcher matcher = BATCH_ITEM.matcher(requestBody);
+        while (matcher.find()) {
+            batchSize = Math.max(batchSize, Integer.parseInt(matcher.group(1)));
+        }
+
+        if (batchSize == 0) {
+            return "```json\n" + objectMapper.writeValueAsString(quiz(0)) + "\n```";
+        }
+
+        ArrayNode quizzes = objectMapper.createArrayNode();
+        for (int id = 1; id <= batchSize; id++) {
+            quizzes.add(quiz(id));
+        }
+        return "```json\n" + objectMapper.writeValueAsString(quizzes) + "\n```";
+    }
+
+    private ObjectNode quiz(int id) {
+        ObjectNode quiz = objectMapper.createObjectNode();
+        if (id > 0) {
+            quiz.put("id", id);
+        }
+        quiz.put("question", "그날 함께 시간을 보낸 사람은 누구였나요?");
+        quiz.putArray("choices").add("민수").add("지영").add("철수");
+        quiz.put("answer", "민수");
+        return quiz;
+    }
+
+    private String completion(String content) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("id", "chatcmpl-stub");
+        root.put("object", "chat.completion");
+        ObjectNode choice = root.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message")
+                .put("role", "assistant")
+                .put("content", content);
+        choice.put("finish_reason", "stop");
+        return objectMapper.writeValueAsString(root);
+    }
+
+    private void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,347 @@
+package com.thinkeep.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thinkeep.domain.quiz.dto.QuizResponse;
+import com.thinkeep.domain.record.entity.Record;
+import com.thinkeep.domain.record.entity.RecordAnswers;
+import com.thinkeep.domain.record.repository.RecordRepository;
+import com.thinkeep.domain.user.entity.User;
+import com.thinkeep.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 퀴즈/기록 API 부하 테스트 (OpenAI 대역 서버 + H2, 실제 API 사용량 없음)
+ * 기본 test 태스크에서는 제외, ./gradlew loadTest 로 실행
+ *
+ * 설정 (시스템 프로퍼티, 예: ./gradlew loadTest -Dloadtest.users=500 -Dloadtest.duration-seconds=120)
+ * - loadtest.users / concurrency / warmup-seconds / duration-seconds / max-error-rate
+ * - loadtest.stub.latency-ms / jitter-ms / tail-rate / tail-latency-ms / error-rate / rate-limit-rate
+ * - spring.datasource.* 를 넘기면 H2 대신 로컬 MySQL 사용
+ *
+ * 트래픽 구성: 기록 작성 10%, 월별 캘린더 40%, 오늘의 퀴즈 30%, 퀴즈 제출 20%
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "loadtest"})
+class QuizLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 200);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final double MAX_ERROR_RATE =
+            Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.05"));
+
+    private static final String[] EMOTIONS = {"행복", "기쁨", "보통", "우울", "슬픔", "화남"};
+    private static final String[] PEOPLE = {"엄마", "친구 민수", "회사 동료", "딸", "혼자", "대학 동기"};
+    private static final String[] FOODS = {"김치찌개", "된장찌개", "비빔밥", "불고기", "잔치국수", "떡볶이"};
+    private static final String[] ACTIVITIES = {"공원 산책", "시장 구경", "영화 감상", "텃밭 가꾸기", "동네 카페", "등산"};
+
+    private static OpenAiStubServer openAiStub;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    // 사용자별 제출 대기 중인 퀴즈
+    private final Map<Long, Deque<QuizResponse>> pendingQuizzes = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicBoolean> recordedToday = new ConcurrentHashMap<>();
+    private List<Long> userNos;
+
+    @DynamicPropertySource
+    static void openAiStub(DynamicPropertyRegistry registry) throws IOException {
+        openAiStub = OpenAiStubServer.fromSystemProperties();
+        registry.add("openai.api.url", openAiStub::getUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (openAiStub != null) {
+            openAiStub.close();
+        }
+    }
+
+    @Test
+    void mixedTraffic() throws Exception {
+        seed();
+
+        System.out.printf("%n[부하 테스트] users=%d, concurrency=%d, warmup=%ds, duration=%ds%n",
+                USERS, CONCURRENCY, WARMUP_SECONDS, DURATION_SECONDS);
+        System.out.printf("[부하 테스트] OpenAI stub: %s%n", openAiStub.describe());
+
+        run(WARMUP_SECONDS, new LatencyStats());
+
+        LatencyStats stats = new LatencyStats();
+        long elapsedNanos = run(DURATION_SECONDS, stats);
+
+        System.out.println(stats.report(elapsedNanos));
+        System.out.printf("[부하 테스트] OpenAI stub: 요청 %d건, 주입 500 %d건, 주입 429 %d건%n",
+                openAiStub.getRequests(), openAiStub.getInjectedErrors(), openAiStub.getInjectedRateLimits());
+
+        assertThat(stats.totalCount()).isPositive();
+        assertThat(stats.errorRate()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    /**
+     * 사용자 + 최근 3일 기록 생성 (오늘의 퀴즈 출제 대상)
+     */
+    private void seed() {
+        LocalDate today = LocalDate.now();
+        Random random = new Random(42);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .nickname("load_" + i + "_" + UUID.randomUUID().toString().substring(0, 8))
+                    .password("password")
+                    .build());
+        }
+        userNos = userRepository.saveAll(users).stream().map(User::getUserNo).toList();
+
+        List<Record> records = new ArrayList<>();
+        for (Long userNo : userNos) {
+            for (int daysAgo = 1; daysAgo <= 3; daysAgo++) {
+                records.add(Record.builder()
+                        .userNo(userNo)
+                        .date(today.minusDays(daysAgo))
+                        .emotion(pick(EMOTIONS, random))
+                        .answers(RecordAnswers.encode(answers(random)))
+                        .build());
+            }
+            pendingQuizzes.put(userNo, new ConcurrentLinkedDeque<>());
+            recordedToday.put(userNo, new AtomicBoolean(false));
+        }
+        recordRepository.saveAll(records);
+    }
+
+    private long run(int seconds, LatencyStats stats) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+
+        for (int i = 0; i < CONCURRENCY; i++) {
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    runOne(stats);
+                }
+            });
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+        return System.nanoTime() - start;
+    }
+
+    private void runOne(LatencyStats stats) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long userNo = userNos.get(random.nextInt(userNos.size()));
+        int roll = random.nextInt(100);
+
+        if (roll < 10 && recordedToday.get(userNo).compareAndSet(false, true)) {
+            createRecord(userNo, stats);
+        } else if (roll < 50) {
+            calendar(userNo, stats);
+        } else if (roll < 80) {
+            todayQuizzes(userNo, stats);
+        } else {
+            QuizResponse quiz = pendingQuizzes.get(userNo).poll();
+            if (quiz != null) {
+                submitQuiz(quiz, stats);
+            } else {
+                todayQuizzes(userNo, stats);
+            }
+        }
+    }
+
+    private void createRecord(Long userNo, LatencyStats stats) {
+        Random random = ThreadLocalRandom.current();
+        Map<String, Object> body = Map.of(
+                "answers", answers(random),
+                "emotion", pick(EMOTIONS, random));
+        send("record_create", post("/api/records?userNo=" + userNo, body), stats);
+    }
+
+    private void calendar(Long userNo, LatencyStats stats) {
+        LocalDate today = LocalDate.now();
+        send("calendar", get("/api/records/emotions/" + userNo
+                + "?year=" + today.getYear() + "&month=" + today.getMonthValue()), stats);
+    }
+
+    private void todayQuizzes(Long userNo, LatencyStats stats) {
+        HttpResponse<String> response = send("quiz_today", get("/api/quizzes/today?userNo=" + userNo), stats);
+        if (response == null || response.statusCode() != 200) {
+            return;
+        }
+
+        try {
+            List<QuizResponse> quizzes = objectMapper.readValue(response.body(), new TypeReference<>() {});
+            Deque<QuizResponse> pending = pendingQuizzes.get(userNo);
+            // 같은 사용자의 오늘 퀴즈는 매번 같은 세트 -> 비어 있을 때만 채움
+            if (pending.isEmpty()) {
+                pending.addAll(quizzes);
+            }
+        } catch (IOException e) {
+            // 응답 형식 오류는 다음 조회에서 다시 시도
+        }
+    }
+
+    private void submitQuiz(QuizResponse quiz, LatencyStats stats) {
+        Map<String, Object> body = Map.of(
+                "quizId", quiz.getQuizId(),
+                "userAnswer", quiz.getAnswer(),
+                "skipped", false);
+        send("quiz_submit", post("/api/quizzes/submit", body), stats);
+    }
+
+    private HttpResponse<String> send(String operation, HttpRequest request, LatencyStats stats) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.record(operation, System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            stats.record(operation, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .timeout(Duration.ofSeconds(60))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, String> answers(Random random) {
+        return Map.of(
+                "Q1", "오늘은 " + pick(EMOTIONS, random) + "한 하루였어요",
+                "Q2", pick(PEOPLE, random),
+                "Q3", pick(FOODS, random),
+                "Q4", pick(ACTIVITIES, random) + "을(를) 했어요");
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * 작업별 지연 시간 수집 + 백분위 리포트
+     */
+    static class LatencyStats {
+
+        private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentSkipListMap<>();
+        private final Map<String, OperationCounts> counts = new ConcurrentHashMap<>();
+
+        void record(String operation, long nanos, boolean success) {
+            latencies.computeIfAbsent(operation, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+            counts.computeIfAbsent(operation, key -> new OperationCounts()).add(success);
+        }
+
+        long totalCount() {
+            return counts.values().stream().mapToLong(OperationCounts::total).sum();
+        }
+
+        double errorRate() {
+            long total = totalCount();
+            long errors = counts.values().stream().mapToLong(OperationCounts::errors).sum();
+            return total == 0 ? 0 : (double) errors / total;
+        }
+
+        String report(long elapsedNanos) {
+            double seconds = elapsedNanos / 1e9;
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("%n%-16s %8s %7s %9s %8s %8s %8s %8s%n",
+                    "operation", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+
+            latencies.forEach((operation, samples) -> {
+                long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+                OperationCounts count = counts.get(operation);
+                report.append(String.format("%-16s %8d %7d %9.1f %8.1f %8.1f %8.1f %8.1f%n",
+                        operation, count.total(), count.errors(), count.total() / seconds,
+                        percentile(sorted, 0.50), percentile(sorted, 0.90),
+                        percentile(sorted, 0.99), percentile(sorted, 1.0)));
+            });
+
+            report.append(String.format("%-16s %8d %7s %9.1f  (error rate %.2f%%)%n",
+                    "total", totalCount(), "", totalCount() / seconds, errorRate() * 100));
+            return report.toString();
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    static class OperationCounts {
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void add(boolean success) {
+            total.increment();
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        long total() {
+            return total.sum();
+        }
+
+        long errors() {
+            return errors.sum();
+        }
+    }
+}